@@ -1,16 +1,43 @@
 package org.example.config;
 
+import java.nio.file.Path;
+
+import org.example.impact.UsageRecorder;
+
 /**
  * Holds configuration values used by UI tests.
  */
 public class TestConfig {
+    /** Default directory holding visual regression baselines. */
+    public static final String DEFAULT_VISUAL_BASELINE_DIR = "src/test/resources/visual-baselines";
+    /** Default maximum per-channel difference treated as equal in visual checks. */
+    public static final int DEFAULT_VISUAL_COLOR_TOLERANCE = 8;
+    /** Default neighbourhood radius checked for anti-aliased edges in visual checks. */
+    public static final int DEFAULT_VISUAL_ANTI_ALIAS_RADIUS = 1;
+    /** Default input strategy of page objects. */
+    public static final String DEFAULT_INPUT_STRATEGY = "NATIVE";
+    /** Default chromedriver cache directory, under the user's home directory. */
+    public static final String DEFAULT_DRIVER_CACHE_DIR =
+            Path.of(System.getProperty("user.home"), ".cache", "selenium-lab", "drivers").toString();
+
     private final String baseUrl;
     private final boolean headless;
     private final long timeoutSeconds;
     private final long delayMillis;
+    private final String traceFile;
+    private final boolean verbose;
+    private final String impactMapFile;
+    private final String perfHistoryFile;
+    private final String visualBaselineDir;
+    private final int visualColorTolerance;
+    private final int visualAntiAliasRadius;
+    private final boolean updateVisualBaselines;
+    private final String inputStrategy;
+    private final String driverCacheDir;
 
     /**
-     * Creates a configuration object with explicit values.
+     * Creates a configuration object with explicit values, default visual and input settings,
+     * and no optional features enabled.
      *
      * @param baseUrl the base URL for the tests
      * @param headless whether to run the browser in headless mode
@@ -18,10 +45,39 @@ public class TestConfig {
      * @param delayMillis delay between actions in milliseconds
      */
     public TestConfig(String baseUrl, boolean headless, long timeoutSeconds, long delayMillis) {
-        this.baseUrl = baseUrl;
-        this.headless = headless;
-        this.timeoutSeconds = timeoutSeconds;
-        this.delayMillis = delayMillis;
+        this(builder(baseUrl, headless, timeoutSeconds, delayMillis));
+    }
+
+    private TestConfig(Builder builder) {
+        UsageRecorder.record(TestConfig.class, "<init>");
+        this.baseUrl = builder.baseUrl;
+        this.headless = builder.headless;
+        this.timeoutSeconds = builder.timeoutSeconds;
+        this.delayMillis = builder.delayMillis;
+        this.traceFile = builder.traceFile;
+        this.verbose = builder.verbose;
+        this.impactMapFile = builder.impactMapFile;
+        this.perfHistoryFile = builder.perfHistoryFile;
+        this.visualBaselineDir = builder.visualBaselineDir;
+        this.visualColorTolerance = builder.visualColorTolerance;
+        this.visualAntiAliasRadius = builder.visualAntiAliasRadius;
+        this.updateVisualBaselines = builder.updateVisualBaselines;
+        this.inputStrategy = builder.inputStrategy;
+        this.driverCacheDir = builder.driverCacheDir;
+    }
+
+    /**
+     * Starts a configuration with the required values. Optional features start disabled and
+     * visual and input settings start at their defaults.
+     *
+     * @param baseUrl the base URL for the tests
+     * @param headless whether to run the browser in headless mode
+     * @param timeoutSeconds explicit wait timeout in seconds
+     * @param delayMillis delay between actions in milliseconds
+     * @return a builder for the remaining values
+     */
+    public static Builder builder(String baseUrl, boolean headless, long timeoutSeconds, long delayMillis) {
+        return new Builder(baseUrl, headless, timeoutSeconds, delayMillis);
     }
 
     /**
@@ -34,7 +90,20 @@ public class TestConfig {
         boolean headless = Boolean.parseBoolean(System.getProperty("headless", "false"));
         long timeoutSeconds = Long.parseLong(System.getProperty("timeoutSeconds", "10"));
         long delayMillis = Long.parseLong(System.getProperty("delayMillis", "1000"));
-        return new TestConfig(baseUrl, headless, timeoutSeconds, delayMillis);
+        return builder(baseUrl, headless, timeoutSeconds, delayMillis)
+                .traceFile(System.getProperty("traceFile", ""))
+                .verbose(Boolean.parseBoolean(System.getProperty("verbose", "false")))
+                .impactMapFile(System.getProperty("impactMap", ""))
+                .perfHistoryFile(System.getProperty("perfHistory", ""))
+                .visualBaselineDir(System.getProperty("visualBaselineDir", DEFAULT_VISUAL_BASELINE_DIR))
+                .visualColorTolerance(Integer.parseInt(System.getProperty("visualColorTolerance",
+                        String.valueOf(DEFAULT_VISUAL_COLOR_TOLERANCE))))
+                .visualAntiAliasRadius(Integer.parseInt(System.getProperty("visualAntiAliasRadius",
+                        String.valueOf(DEFAULT_VISUAL_ANTI_ALIAS_RADIUS))))
+                .updateVisualBaselines(Boolean.parseBoolean(System.getProperty("updateVisualBaselines", "false")))
+                .inputStrategy(System.getProperty("inputStrategy", DEFAULT_INPUT_STRATEGY))
+                .driverCacheDir(System.getProperty("driverCacheDir", DEFAULT_DRIVER_CACHE_DIR))
+                .build();
     }
 
     /**
@@ -64,4 +133,207 @@ public class TestConfig {
     public long getDelayMillis() {
         return delayMillis;
     }
+
+    /**
+     * @return Chrome trace output file, or empty when tracing is disabled
+     */
+    public String getTraceFile() {
+        return traceFile;
+    }
+
+    /**
+     * @return true when a trace output file is configured
+     */
+    public boolean isTracingEnabled() {
+        return !traceFile.isEmpty();
+    }
+
+    /**
+     * @return true when test logs are written for passing tests too
+     */
+    public boolean isVerbose() {
+        return verbose;
+    }
+
+    /**
+     * @return test impact map file to update, or empty when recording is disabled
+     */
+    public String getImpactMapFile() {
+        return impactMapFile;
+    }
+
+    /**
+     * @return latency history file, or empty when regression detection is disabled
+     */
+    public String getPerfHistoryFile() {
+        return perfHistoryFile;
+    }
+
+    /**
+     * @return directory holding visual regression baselines
+     */
+    public String getVisualBaselineDir() {
+        return visualBaselineDir;
+    }
+
+    /**
+     * @return maximum per-channel difference treated as equal in visual checks
+     */
+    public int getVisualColorTolerance() {
+        return visualColorTolerance;
+    }
+
+    /**
+     * @return neighbourhood radius checked for anti-aliased edges in visual checks
+     */
+    public int getVisualAntiAliasRadius() {
+        return visualAntiAliasRadius;
+    }
+
+    /**
+     * @return true when visual checks create missing baselines instead of failing
+     */
+    public boolean isUpdateVisualBaselines() {
+        return updateVisualBaselines;
+    }
+
+    /**
+     * @return how page objects type text: NATIVE, SCRIPT or CDP
+     */
+    public String getInputStrategy() {
+        return inputStrategy;
+    }
+
+    /**
+     * @return chromedriver cache directory, or empty when the cache is disabled
+     */
+    public String getDriverCacheDir() {
+        return driverCacheDir;
+    }
+
+    /**
+     * Builds a {@link TestConfig} from named settings, so adjacent values of the same type
+     * cannot be swapped by position.
+     */
+    public static final class Builder {
+        private final String baseUrl;
+        private final boolean headless;
+        private final long timeoutSeconds;
+        private final long delayMillis;
+        private String traceFile = "";
+        private boolean verbose;
+        private String impactMapFile = "";
+        private String perfHistoryFile = "";
+        private String visualBaselineDir = DEFAULT_VISUAL_BASELINE_DIR;
+        private int visualColorTolerance = DEFAULT_VISUAL_COLOR_TOLERANCE;
+        private int visualAntiAliasRadius = DEFAULT_VISUAL_ANTI_ALIAS_RADIUS;
+        private boolean updateVisualBaselines;
+        private String inputStrategy = DEFAULT_INPUT_STRATEGY;
+        private String driverCacheDir = "";
+
+        private Builder(String baseUrl, boolean headless, long timeoutSeconds, long delayMillis) {
+            this.baseUrl = baseUrl;
+            this.headless = headless;
+            this.timeoutSeconds = timeoutSeconds;
+            this.delayMillis = delayMillis;
+        }
+
+        /**
+         * @param traceFile Chrome trace output file, or empty to disable tracing
+         * @return this builder
+         */
+        public Builder traceFile(String traceFile) {
+            this.traceFile = traceFile;
+            return this;
+        }
+
+        /**
+         * @param verbose whether test logs are written for passing tests too
+         * @return this builder
+         */
+        public Builder verbose(boolean verbose) {
+            this.verbose = verbose;
+            return this;
+        }
+
+        /**
+         * @param impactMapFile test impact map to update, or empty to disable recording
+         * @return this builder
+         */
+        public Builder impactMapFile(String impactMapFile) {
+            this.impactMapFile = impactMapFile;
+            return this;
+        }
+
+        /**
+         * @param perfHistoryFile latency history used for regression detection, or empty to disable it
+         * @return this builder
+         */
+        public Builder perfHistoryFile(String perfHistoryFile) {
+            this.perfHistoryFile = perfHistoryFile;
+            return this;
+        }
+
+        /**
+         * @param visualBaselineDir directory holding visual regression baselines
+         * @return this builder
+         */
+        public Builder visualBaselineDir(String visualBaselineDir) {
+            this.visualBaselineDir = visualBaselineDir;
+            return this;
+        }
+
+        /**
+         * @param visualColorTolerance maximum per-channel difference treated as equal in visual checks
+         * @return this builder
+         */
+        public Builder visualColorTolerance(int visualColorTolerance) {
+            this.visualColorTolerance = visualColorTolerance;
+            return this;
+        }
+
+        /**
+         * @param visualAntiAliasRadius neighbourhood radius checked for anti-aliased edges in visual checks
+         * @return this builder
+         */
+        public Builder visualAntiAliasRadius(int visualAntiAliasRadius) {
+            this.visualAntiAliasRadius = visualAntiAliasRadius;
+            return this;
+        }
+
+        /**
+         * @param updateVisualBaselines whether visual checks create missing baselines instead of failing
+         * @return this builder
+         */
+        public Builder updateVisualBaselines(boolean updateVisualBaselines) {
+            this.updateVisualBaselines = updateVisualBaselines;
+            return this;
+        }
+
+        /**
+         * @param inputStrategy how page objects type text: NATIVE, SCRIPT or CDP
+         * @return this builder
+         */
+        public Builder inputStrategy(String inputStrategy) {
+            this.inputStrategy = inputStrategy;
+            return this;
+        }
+
+        /**
+         * @param driverCacheDir chromedriver cache directory, or empty to let Selenium Manager
+         *                       resolve the driver for every session
+         * @return this builder
+         */
+        public Builder driverCacheDir(String driverCacheDir) {
+            this.driverCacheDir = driverCacheDir;
+            return this;
+        }
+
+        /**
+         * @return the configuration
+         */
+        public TestConfig build() {
+            return new TestConfig(this);
+        }
+    }
 }
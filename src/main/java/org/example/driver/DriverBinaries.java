@@ -0,0 +1,13 @@
+package org.example.driver;
+
+import java.nio.file.Path;
+
+/**
+ * Resolved browser and driver binaries.
+ *
+ * @param browserPath the Chrome executable
+ * @param browserVersion the Chrome version, used as the cache key
+ * @param driverPath the cached chromedriver executable
+ */
+record DriverBinaries(Path browserPath, String browserVersion, Path driverPath) {
+}
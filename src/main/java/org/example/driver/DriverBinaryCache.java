@@ -0,0 +1,184 @@
+package org.example.driver;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.openqa.selenium.chrome.ChromeDriverService;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.remote.service.DriverFinder;
+
+/**
+ * On-disk cache of chromedriver binaries keyed by Chrome version.
+ *
+ * <p>The cache directory holds a {@code browser.properties} file with the last resolved Chrome
+ * executable, and one directory per Chrome version with a copy of the matching chromedriver
+ * and its SHA-256 checksum. Once populated, resolving only probes the local Chrome version and
+ * verifies the checksum, so no Selenium Manager process or network access is needed.
+ */
+final class DriverBinaryCache {
+
+    private static final String BROWSER_FILE = "browser.properties";
+    private static final String ENTRY_FILE = "driver.properties";
+    private static final Pattern VERSION = Pattern.compile("(\\d+(?:\\.\\d+){1,3})");
+    private static final long VERSION_PROBE_TIMEOUT_SECONDS = 10;
+
+    private DriverBinaryCache() {
+    }
+
+    /**
+     * Returns cached binaries for the installed Chrome, resolving them with Selenium Manager
+     * and populating the cache on a miss.
+     *
+     * @param cacheDir the cache directory
+     * @return the resolved binaries
+     * @throws IOException if the binaries cannot be resolved or the cache cannot be read or written
+     */
+    static DriverBinaries resolve(Path cacheDir) throws IOException {
+        Path browserPath = readPath(cacheDir.resolve(BROWSER_FILE), "browserPath");
+        if (browserPath != null && Files.isExecutable(browserPath)) {
+            String version = browserVersion(browserPath);
+            Path driverPath = verifiedDriver(cacheDir.resolve(version));
+            if (driverPath != null) {
+                return new DriverBinaries(browserPath, version, driverPath);
+            }
+        }
+        return populate(cacheDir);
+    }
+
+    private static DriverBinaries populate(Path cacheDir) throws IOException {
+        Path resolvedDriver;
+        Path browserPath;
+        try {
+            DriverFinder finder = new DriverFinder(ChromeDriverService.createDefaultService(), new ChromeOptions());
+            resolvedDriver = Path.of(finder.getDriverPath());
+            if (!finder.hasBrowserPath()) {
+                throw new IOException("Selenium Manager did not report a Chrome binary");
+            }
+            browserPath = Path.of(finder.getBrowserPath());
+        } catch (RuntimeException e) {
+            throw new IOException("Failed to resolve Chrome and chromedriver with Selenium Manager", e);
+        }
+        String version = browserVersion(browserPath);
+
+        Path entryDir = cacheDir.resolve(version);
+        Files.createDirectories(entryDir);
+        Path driverPath = entryDir.resolve(resolvedDriver.getFileName());
+        Path temp = Files.createTempFile(entryDir, "driver", ".tmp");
+        Files.copy(resolvedDriver, temp, StandardCopyOption.REPLACE_EXISTING);
+        temp.toFile().setExecutable(true);
+        // Moves are atomic so concurrent JVMs never see a partially copied driver.
+        Files.move(temp, driverPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+        Properties entry = new Properties();
+        entry.setProperty("driver", driverPath.getFileName().toString());
+        entry.setProperty("sha256", sha256(driverPath));
+        writeProperties(entryDir.resolve(ENTRY_FILE), entry);
+
+        Properties browser = new Properties();
+        browser.setProperty("browserPath", browserPath.toAbsolutePath().toString());
+        writeProperties(cacheDir.resolve(BROWSER_FILE), browser);
+
+        return new DriverBinaries(browserPath, version, driverPath);
+    }
+
+    /**
+     * Returns the cached driver in an entry directory if its checksum still matches.
+     */
+    private static Path verifiedDriver(Path entryDir) throws IOException {
+        Path entryFile = entryDir.resolve(ENTRY_FILE);
+        if (!Files.exists(entryFile)) {
+            return null;
+        }
+        Properties entry = readProperties(entryFile);
+        String driver = entry.getProperty("driver");
+        if (driver == null) {
+            return null;
+        }
+        Path driverPath = entryDir.resolve(driver);
+        if (!Files.isExecutable(driverPath) || !sha256(driverPath).equals(entry.getProperty("sha256"))) {
+            return null;
+        }
+        return driverPath;
+    }
+
+    /**
+     * Reads the Chrome version from {@code chrome --version}. Falls back to a key derived from
+     * the executable's size and modification time when the version cannot be read, which is
+     * the case on Windows where the flag does not print a version.
+     */
+    private static String browserVersion(Path browserPath) throws IOException {
+        if (!System.getProperty("os.name", "").toLowerCase(Locale.ROOT).contains("win")) {
+            Process process = new ProcessBuilder(browserPath.toString(), "--version")
+                    .redirectErrorStream(true)
+                    .start();
+            try {
+                String output;
+                try (InputStream in = process.getInputStream()) {
+                    output = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+                }
+                if (process.waitFor(VERSION_PROBE_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                    Matcher matcher = VERSION.matcher(output);
+                    if (matcher.find()) {
+                        return matcher.group(1);
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                process.destroy();
+            }
+        }
+        return "build-" + Files.size(browserPath) + "-" + Files.getLastModifiedTime(browserPath).toMillis();
+    }
+
+    private static String sha256(Path file) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+        try (InputStream in = new DigestInputStream(Files.newInputStream(file), digest)) {
+            in.transferTo(OutputStream.nullOutputStream());
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static Path readPath(Path file, String key) throws IOException {
+        if (!Files.exists(file)) {
+            return null;
+        }
+        String value = readProperties(file).getProperty(key);
+        return value == null ? null : Path.of(value);
+    }
+
+    private static Properties readProperties(Path file) throws IOException {
+        Properties properties = new Properties();
+        try (InputStream in = Files.newInputStream(file)) {
+            properties.load(in);
+        }
+        return properties;
+    }
+
+    private static void writeProperties(Path file, Properties properties) throws IOException {
+        Path temp = Files.createTempFile(file.toAbsolutePath().getParent(), "cache", ".tmp");
+        try (OutputStream out = Files.newOutputStream(temp)) {
+            properties.store(out, "Generated by DriverBinaryCache");
+        }
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+}
@@ -1,9 +1,17 @@
 package org.example.driver;
 
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+
 import org.example.config.TestConfig;
+import org.example.impact.UsageRecorder;
+import org.example.tracing.Span;
+import org.example.tracing.Tracer;
+import org.example.utils.TestLog;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.chrome.ChromeDriver;
 import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.support.events.EventFiringDecorator;
 
 /**
  * Factory class responsible for creating and configuring WebDriver instances.
@@ -22,12 +30,21 @@ public class DriverFactory {
     *   <li>--no-sandbox: Disables Chrome sandbox for compatibility in CI/CD environments</li>
     *   <li>--disable-dev-shm-usage: Prevents shared memory issues in containerized environments</li>
     * </ul>
+    *
+    * <p>When a driver cache directory is configured, Chrome and chromedriver are resolved once
+    * per JVM through the {@link DriverBinaryCache} and every session runs on one shared
+    * chromedriver service. If the binaries cannot be resolved or the service cannot start, the
+    * driver falls back to a regular {@link ChromeDriver}; failures of the session itself are thrown.
+    *
+    * <p>When tracing is enabled, the driver is decorated so that every command is recorded
+    * as a {@link Tracer#WEBDRIVER} span.
     *
      * @param config the test configuration containing browser settings such as headless mode
      * @return a configured ChromeDriver instance ready for use
      * @see TestConfig
      */
     public WebDriver createChromeDriver(TestConfig config) {
+        UsageRecorder.record(DriverFactory.class, "createChromeDriver");
         ChromeOptions options = new ChromeOptions();
         if (config.isHeadless()) {
             options.addArguments("--headless=new");
@@ -36,6 +53,36 @@ public class DriverFactory {
             options.addArguments("--no-sandbox");
             options.addArguments("--disable-dev-shm-usage");
         }
+        WebDriver driver;
+        try (Span span = Tracer.start("ChromeDriver.newSession", Tracer.WEBDRIVER)) {
+            driver = newSession(config, options);
+        }
+        if (Tracer.isEnabled()) {
+            driver = new EventFiringDecorator<>(new TracingListener()).decorate(driver);
+        }
+        return driver;
+    }
+
+    /**
+     * Starts a browser session, on the shared service when the driver cache is enabled.
+     *
+     * @param config the test configuration
+     * @param options the Chrome options for the session
+     * @return the new session
+     */
+    private WebDriver newSession(TestConfig config, ChromeOptions options) {
+        if (!config.getDriverCacheDir().isEmpty()) {
+            SharedChromeService service;
+            try {
+                service = SharedChromeService.get(Path.of(config.getDriverCacheDir()));
+            } catch (UncheckedIOException e) {
+                // Only resolution and service start failures fall back; session errors propagate.
+                TestLog.log("[DriverFactory] Shared driver service unavailable, using ChromeDriver: "
+                        + e.getCause().getMessage());
+                return new ChromeDriver(options);
+            }
+            return service.newSession(options);
+        }
         return new ChromeDriver(options);
     }
 }
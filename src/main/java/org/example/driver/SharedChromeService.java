@@ -0,0 +1,72 @@
+package org.example.driver;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chrome.ChromeDriverService;
+import org.openqa.selenium.chrome.ChromeOptions;
+
+/**
+ * A single chromedriver service per JVM, started from the {@link DriverBinaryCache}.
+ *
+ * <p>Binaries are resolved and the service is started on first use; later sessions reuse both,
+ * so session startup no longer spawns Selenium Manager or a new chromedriver process. A failed
+ * start is remembered, so later sessions fail fast instead of resolving the binaries again.
+ */
+final class SharedChromeService {
+
+    private static SharedChromeService instance;
+    private static UncheckedIOException failure;
+
+    private final DriverBinaries binaries;
+    private final ChromeDriverService service;
+
+    private SharedChromeService(DriverBinaries binaries, ChromeDriverService service) {
+        this.binaries = binaries;
+        this.service = service;
+    }
+
+    /**
+     * Returns the running service for this JVM, starting it on first use.
+     *
+     * @param cacheDir the driver binary cache directory
+     * @return the shared service
+     * @throws UncheckedIOException if the binaries cannot be resolved or the service cannot start,
+     *                              now or on an earlier attempt in this JVM
+     */
+    static synchronized SharedChromeService get(Path cacheDir) {
+        if (failure != null) {
+            throw failure;
+        }
+        if (instance == null) {
+            try {
+                DriverBinaries binaries = DriverBinaryCache.resolve(cacheDir);
+                ChromeDriverService service = new ChromeDriverService.Builder()
+                        .usingDriverExecutable(binaries.driverPath().toFile())
+                        .usingAnyFreePort()
+                        .build();
+                service.start();
+                Runtime.getRuntime().addShutdownHook(new Thread(service::stop, "chromedriver-shutdown"));
+                instance = new SharedChromeService(binaries, service);
+            } catch (IOException | RuntimeException e) {
+                IOException cause = e instanceof IOException io ? io : new IOException(e.getMessage(), e);
+                failure = new UncheckedIOException("Failed to start shared chromedriver service", cause);
+                throw failure;
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Starts a new browser session on the shared service.
+     *
+     * @param options the Chrome options for the session
+     * @return the new session
+     */
+    WebDriver newSession(ChromeOptions options) {
+        options.setBinary(binaries.browserPath().toFile());
+        return new SharedServiceChromeDriver(service.getUrl(), options);
+    }
+}
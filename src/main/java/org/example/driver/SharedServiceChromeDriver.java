@@ -0,0 +1,42 @@
+package org.example.driver;
+
+import java.net.URL;
+import java.util.Map;
+
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.chromium.HasCdp;
+import org.openqa.selenium.remote.CommandInfo;
+import org.openqa.selenium.remote.HttpCommandExecutor;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import org.openqa.selenium.remote.Response;
+import org.openqa.selenium.remote.http.HttpMethod;
+
+/**
+ * Chrome session that talks to an already running, shared chromedriver service.
+ *
+ * <p>Unlike {@link org.openqa.selenium.chrome.ChromeDriver}, quitting this driver only ends the
+ * browser session and leaves the service running for the next session.
+ */
+final class SharedServiceChromeDriver extends RemoteWebDriver implements HasCdp {
+
+    private static final String EXECUTE_CDP_COMMAND = "executeCdpCommand";
+
+    /**
+     * Starts a new browser session on the given service.
+     *
+     * @param serviceUrl URL of the running chromedriver service
+     * @param options the Chrome options for the session
+     */
+    SharedServiceChromeDriver(URL serviceUrl, ChromeOptions options) {
+        super(new HttpCommandExecutor(
+                Map.of(EXECUTE_CDP_COMMAND, new CommandInfo("/session/:sessionId/goog/cdp/execute", HttpMethod.POST)),
+                serviceUrl), options);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Map<String, Object> executeCdpCommand(String commandName, Map<String, Object> parameters) {
+        Response response = execute(EXECUTE_CDP_COMMAND, Map.of("cmd", commandName, "params", parameters));
+        return (Map<String, Object>) response.getValue();
+    }
+}
@@ -0,0 +1,41 @@
+package org.example.driver;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+import org.example.tracing.Span;
+import org.example.tracing.Tracer;
+import org.openqa.selenium.support.events.WebDriverListener;
+
+/**
+ * WebDriver listener that records every driver and element command as a trace span.
+ */
+public class TracingListener implements WebDriverListener {
+
+    private final ThreadLocal<Deque<Span>> openSpans = ThreadLocal.withInitial(ArrayDeque::new);
+
+    @Override
+    public void beforeAnyCall(Object target, Method method, Object[] args) {
+        String name = method.getDeclaringClass().getSimpleName() + "." + method.getName();
+        openSpans.get().push(Tracer.start(name, Tracer.WEBDRIVER));
+    }
+
+    @Override
+    public void afterAnyCall(Object target, Method method, Object[] args, Object result) {
+        closeCurrent();
+    }
+
+    @Override
+    public void onError(Object target, Method method, Object[] args, InvocationTargetException e) {
+        closeCurrent();
+    }
+
+    private void closeCurrent() {
+        Span span = openSpans.get().poll();
+        if (span != null) {
+            span.close();
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package org.example.impact;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Maps each test to the project classes and methods it exercised.
+ *
+ * <p>Tests are identified as {@code fully.qualified.TestClass#method}. Usage entries are either
+ * {@code fully.qualified.Class#method} or a bare class name. The file format is one
+ * {@code test=entry,entry,...} line per test, sorted so the file diffs cleanly.
+ */
+public class ImpactMap {
+
+    private final Map<String, SortedSet<String>> usageByTest = new TreeMap<>();
+
+    /**
+     * Loads a map from disk. A missing file yields an empty map.
+     *
+     * @param file the map file
+     * @return the loaded map
+     * @throws IOException if the file cannot be read
+     */
+    public static ImpactMap load(Path file) throws IOException {
+        ImpactMap map = new ImpactMap();
+        if (!Files.exists(file)) {
+            return map;
+        }
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                line = line.trim();
+                int separator = line.indexOf('=');
+                if (line.isEmpty() || line.startsWith("#") || separator < 0) {
+                    continue;
+                }
+                SortedSet<String> usage = new TreeSet<>();
+                for (String entry : line.substring(separator + 1).split(",")) {
+                    if (!entry.isBlank()) {
+                        usage.add(entry.trim());
+                    }
+                }
+                map.usageByTest.put(line.substring(0, separator).trim(), usage);
+            }
+        }
+        return map;
+    }
+
+    /**
+     * Writes the map to disk, creating parent directories as needed.
+     *
+     * @param file the map file
+     * @throws IOException if the file cannot be written
+     */
+    public void save(Path file) throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            writer.write("# Test impact map: test=class#method,... (generated, do not edit)");
+            writer.newLine();
+            for (Map.Entry<String, SortedSet<String>> entry : usageByTest.entrySet()) {
+                writer.write(entry.getKey() + "=" + String.join(",", entry.getValue()));
+                writer.newLine();
+            }
+        }
+    }
+
+    /**
+     * Replaces the recorded usage of a test.
+     *
+     * @param testId the test identifier
+     * @param usage the usage entries recorded for the test
+     */
+    public void put(String testId, Collection<String> usage) {
+        usageByTest.put(testId, new TreeSet<>(usage));
+    }
+
+    /**
+     * @return true when no tests are recorded
+     */
+    public boolean isEmpty() {
+        return usageByTest.isEmpty();
+    }
+
+    /**
+     * @return all recorded test identifiers
+     */
+    public Set<String> testIds() {
+        return usageByTest.keySet();
+    }
+
+    /**
+     * Finds tests that used any of the given classes, including their nested classes.
+     *
+     * @param classNames fully qualified class names
+     * @return identifiers of affected tests
+     */
+    public SortedSet<String> testsUsing(Set<String> classNames) {
+        SortedSet<String> tests = new TreeSet<>();
+        for (Map.Entry<String, SortedSet<String>> entry : usageByTest.entrySet()) {
+            for (String usage : entry.getValue()) {
+                if (classNames.contains(topLevelClass(usage))) {
+                    tests.add(entry.getKey());
+                    break;
+                }
+            }
+        }
+        return tests;
+    }
+
+    private static String topLevelClass(String usage) {
+        int end = usage.length();
+        int method = usage.indexOf('#');
+        if (method >= 0) {
+            end = method;
+        }
+        int nested = usage.indexOf('$');
+        if (nested >= 0 && nested < end) {
+            end = nested;
+        }
+        return usage.substring(0, end);
+    }
+}
@@ -0,0 +1,173 @@
+package org.example.impact;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Selects the tests affected by a change, based on an {@link ImpactMap}.
+ *
+ * <p>Reads changed file paths (as printed by {@code git diff --name-only}) from standard input
+ * and prints a single line: {@code ALL} when the whole suite must run, {@code NONE} when no test
+ * is affected, or a Surefire {@code -Dtest} pattern such as {@code a.FooTest#one+two}.
+ *
+ * <p>A unit test named after a changed class ({@code FooTest} for {@code Foo}) is always selected.
+ * A changed class that the map does not cover and that has no such unit test selects the whole
+ * suite, since its impact is unknown.
+ *
+ * <p>Usage: {@code git diff --name-only main...HEAD | java org.example.impact.TestImpactSelector impact-map.properties [repo-root]}
+ */
+public class TestImpactSelector {
+
+    /** Result meaning the whole suite must run. */
+    public static final String ALL = "ALL";
+
+    /** Result meaning no test is affected. */
+    public static final String NONE = "NONE";
+
+    private static final String MAIN_SOURCES = "src/main/java/";
+    private static final String TEST_SOURCES = "src/test/java/";
+
+    /** Packages whose usage is recorded in the impact map. */
+    private static final List<String> TRACKED_PACKAGES = List.of(
+            "org.example.pages.", "org.example.driver.", "org.example.config.");
+
+    /** Test base classes that every test depends on; changing one selects the whole suite. */
+    private static final Set<String> SHARED_TEST_CLASSES = Set.of("org.example.tests.BaseTest");
+
+    /**
+     * Entry point for CI.
+     *
+     * @param args the impact map file and, optionally, the repository root (default: the
+     *             working directory)
+     * @throws IOException if the map or standard input cannot be read
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1 || args.length > 2) {
+            System.err.println("Usage: TestImpactSelector <impact-map-file> [repo-root] < changed-files");
+            System.exit(2);
+        }
+        Path repoRoot = Path.of(args.length == 2 ? args[1] : ".");
+        List<String> changedFiles = new ArrayList<>();
+        BufferedReader reader = new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8));
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (!line.isBlank()) {
+                changedFiles.add(line.trim());
+            }
+        }
+        System.out.println(select(ImpactMap.load(Path.of(args[0])), repoRoot, changedFiles));
+    }
+
+    /**
+     * Computes the test selection for a set of changed files.
+     *
+     * @param map the recorded impact map
+     * @param repoRoot repository root that the changed file paths are relative to
+     * @param changedFiles repository-relative paths of changed files; an empty list means the
+     *                     change is unknown and selects {@link #ALL}
+     * @return {@link #ALL}, {@link #NONE} or a Surefire test pattern
+     */
+    public static String select(ImpactMap map, Path repoRoot, List<String> changedFiles) {
+        if (changedFiles.isEmpty()) {
+            return ALL;
+        }
+        SortedSet<String> selected = new TreeSet<>();
+        Set<String> wholeClasses = new TreeSet<>();
+
+        for (String file : changedFiles) {
+            String path = file.replace('\\', '/');
+            if (isDocumentation(path)) {
+                continue;
+            }
+            if (path.startsWith(MAIN_SOURCES) && path.endsWith(".java")) {
+                String className = toClassName(path.substring(MAIN_SOURCES.length()));
+                if (!isTracked(className) || !selectUsers(map, repoRoot, className, selected, wholeClasses)) {
+                    return ALL;
+                }
+            } else if (path.startsWith(TEST_SOURCES) && path.endsWith(".java")) {
+                String className = toClassName(path.substring(TEST_SOURCES.length()));
+                if (SHARED_TEST_CLASSES.contains(className)) {
+                    return ALL;
+                }
+                if (className.endsWith("Test")) {
+                    wholeClasses.add(className);
+                } else if (!selectUsers(map, repoRoot, className, selected, wholeClasses)) {
+                    return ALL;
+                }
+            } else {
+                return ALL;
+            }
+        }
+
+        return toPattern(selected, wholeClasses);
+    }
+
+    /**
+     * Selects the recorded users and the unit test of a changed class.
+     *
+     * @return false when the map does not cover the class and it has no unit test, so the
+     *         impact of the change is unknown
+     */
+    private static boolean selectUsers(ImpactMap map, Path repoRoot, String className, Set<String> selected,
+                                       Set<String> wholeClasses) {
+        Set<String> users = map.testsUsing(Set.of(className));
+        boolean hasUnitTest = addUnitTest(repoRoot, className, wholeClasses);
+        selected.addAll(users);
+        return !users.isEmpty() || hasUnitTest;
+    }
+
+    private static boolean isDocumentation(String path) {
+        return path.endsWith(".md") || path.equals(".gitignore") || path.startsWith("docs/");
+    }
+
+    private static boolean isTracked(String className) {
+        for (String trackedPackage : TRACKED_PACKAGES) {
+            if (className.startsWith(trackedPackage)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean addUnitTest(Path repoRoot, String className, Set<String> wholeClasses) {
+        String testClass = className + "Test";
+        if (Files.exists(repoRoot.resolve(TEST_SOURCES + testClass.replace('.', '/') + ".java"))) {
+            wholeClasses.add(testClass);
+            return true;
+        }
+        return false;
+    }
+
+    private static String toClassName(String relativePath) {
+        return relativePath.substring(0, relativePath.length() - ".java".length()).replace('/', '.');
+    }
+
+    private static String toPattern(SortedSet<String> tests, Set<String> wholeClasses) {
+        Map<String, List<String>> methodsByClass = new TreeMap<>();
+        for (String test : tests) {
+            int separator = test.indexOf('#');
+            String className = test.substring(0, separator);
+            if (!wholeClasses.contains(className)) {
+                methodsByClass.computeIfAbsent(className, key -> new ArrayList<>())
+                        .add(test.substring(separator + 1));
+            }
+        }
+
+        List<String> patterns = new ArrayList<>(wholeClasses);
+        for (Map.Entry<String, List<String>> entry : methodsByClass.entrySet()) {
+            patterns.add(entry.getKey() + "#" + String.join("+", entry.getValue()));
+        }
+        return patterns.isEmpty() ? NONE : String.join(",", patterns);
+    }
+}
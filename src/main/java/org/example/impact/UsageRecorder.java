@@ -0,0 +1,57 @@
+package org.example.impact;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Records which project classes and methods the running test exercises.
+ *
+ * <p>Recording is scoped to the current thread between {@link #begin()} and {@link #end()};
+ * outside that window {@link #record(Class, String)} is a cheap no-op.
+ */
+public final class UsageRecorder {
+
+    private static final String PROJECT_PACKAGE = "org.example.";
+
+    private static final ThreadLocal<Set<String>> CURRENT = new ThreadLocal<>();
+
+    private UsageRecorder() {
+    }
+
+    /**
+     * Starts recording usage for the current thread.
+     */
+    public static void begin() {
+        CURRENT.set(new HashSet<>());
+    }
+
+    /**
+     * Stops recording usage for the current thread.
+     *
+     * @return the recorded entries, or an empty set if recording was not started
+     */
+    public static Set<String> end() {
+        Set<String> usage = CURRENT.get();
+        CURRENT.remove();
+        return usage == null ? Set.of() : usage;
+    }
+
+    /**
+     * Records a method call. Project superclasses of {@code type} are recorded as class-level
+     * entries so that changes to shared base classes select the test as well.
+     *
+     * @param type the class whose method was called
+     * @param method the method name
+     */
+    public static void record(Class<?> type, String method) {
+        Set<String> usage = CURRENT.get();
+        if (usage == null) {
+            return;
+        }
+        usage.add(type.getName() + "#" + method);
+        for (Class<?> parent = type.getSuperclass(); parent != null
+                && parent.getName().startsWith(PROJECT_PACKAGE); parent = parent.getSuperclass()) {
+            usage.add(parent.getName());
+        }
+    }
+}
@@ -1,7 +1,14 @@
 package org.example.pages;
 
+import java.util.Map;
+
+import org.example.impact.UsageRecorder;
+import org.example.tracing.Span;
+import org.example.tracing.Tracer;
+import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
+import org.openqa.selenium.chromium.HasCdp;
 import org.openqa.selenium.support.PageFactory;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.WebDriverWait;
@@ -11,12 +18,29 @@ import org.openqa.selenium.support.ui.WebDriverWait;
  */
 public abstract class BasePage {
 
+    private static final String SET_VALUE_SCRIPT =
+            "var element = arguments[0];"
+            + "var setter = Object.getOwnPropertyDescriptor(Object.getPrototypeOf(element), 'value').set;"
+            + "element.focus();"
+            + "setter.call(element, arguments[1]);"
+            + "element.dispatchEvent(new Event('input', {bubbles: true}));"
+            + "element.dispatchEvent(new Event('change', {bubbles: true}));";
+
+    /** Empties and focuses a field without dispatching events, ahead of a CDP text insert. */
+    private static final String CLEAR_AND_FOCUS_SCRIPT =
+            "var element = arguments[0];"
+            + "var setter = Object.getOwnPropertyDescriptor(Object.getPrototypeOf(element), 'value').set;"
+            + "setter.call(element, '');"
+            + "element.focus();";
+
     protected final WebDriver driver;
 
     protected final WebDriverWait wait;
 
     protected long delayMillis = 1000;
 
+    protected InputStrategy inputStrategy = InputStrategy.NATIVE;
+
 
     /**
      * Initializes common page state and web element bindings.
@@ -27,6 +51,7 @@ public abstract class BasePage {
     protected BasePage(WebDriver driver, WebDriverWait wait) {
         this.driver = driver;
         this.wait = wait;
+        UsageRecorder.record(getClass(), "<init>");
         PageFactory.initElements(driver, this);
     }
 
@@ -41,6 +66,16 @@ public abstract class BasePage {
     }
 
 
+    /**
+     * Sets how {@link #type(WebElement, String)} enters text.
+     *
+     * @param inputStrategy the input strategy to use
+     */
+    public void setInputStrategy(InputStrategy inputStrategy) {
+        this.inputStrategy = inputStrategy;
+    }
+
+
     /**
      * Pauses execution for the provided duration.
      *
@@ -69,7 +104,21 @@ public abstract class BasePage {
      * @param url destination URL
      */
     public void open(String url) {
-        driver.get(url);
+        try (Span span = span("open")) {
+            driver.get(url);
+        }
+    }
+
+
+    /**
+     * Opens a trace span for a page object method and records the call for test impact analysis.
+     *
+     * @param method the page object method name
+     * @return the open span
+     */
+    protected Span span(String method) {
+        UsageRecorder.record(getClass(), method);
+        return Tracer.start(getClass().getSimpleName() + "." + method, Tracer.PAGE);
     }
 
 
@@ -81,4 +130,31 @@ public abstract class BasePage {
     protected void waitUntilVisible(WebElement element) {
         wait.until(ExpectedConditions.visibilityOf(element));
     }
+
+
+    /**
+     * Replaces the value of an input field using the configured {@link InputStrategy}.
+     *
+     * @param element the input element
+     * @param text the text to enter
+     * @throws UnsupportedOperationException if the strategy is {@link InputStrategy#CDP} and the
+     *                                       driver does not support CDP
+     */
+    protected void type(WebElement element, String text) {
+        switch (inputStrategy) {
+            case SCRIPT -> ((JavascriptExecutor) driver).executeScript(SET_VALUE_SCRIPT, element, text);
+            case CDP -> {
+                if (!(driver instanceof HasCdp cdp)) {
+                    throw new UnsupportedOperationException(
+                            "CDP input strategy needs a driver with CDP support: " + driver.getClass().getName());
+                }
+                ((JavascriptExecutor) driver).executeScript(CLEAR_AND_FOCUS_SCRIPT, element);
+                cdp.executeCdpCommand("Input.insertText", Map.of("text", text));
+            }
+            default -> {
+                element.clear();
+                element.sendKeys(text);
+            }
+        }
+    }
 }
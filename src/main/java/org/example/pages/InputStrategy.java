@@ -0,0 +1,20 @@
+package org.example.pages;
+
+/**
+ * How page objects type text into input fields.
+ */
+public enum InputStrategy {
+
+    /** Clears the field and types the text key by key with {@code sendKeys}. */
+    NATIVE,
+
+    /** Sets the value and dispatches {@code input} and {@code change} events in one script call. */
+    SCRIPT,
+
+    /**
+     * Empties and focuses the field in one script call without dispatching events, then inserts
+     * the text with the Chrome DevTools {@code Input.insertText} command. Fails when the driver
+     * does not support CDP.
+     */
+    CDP
+}
@@ -1,5 +1,6 @@
 package org.example.pages;
 
+import org.example.tracing.Span;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
@@ -30,25 +31,28 @@ public class NewsletterPage extends BasePage {
     }
 
     /**
-     * Enters the provided email into the sign-up input.
+     * Enters the provided email into the sign-up input using the configured {@link InputStrategy}.
      *
      * @param email email address to type
      */
     public void enterEmail(String email) {
-        waitUntilVisible(emailInput);
-        sleep();
-        emailInput.clear();
-        emailInput.sendKeys(email);
-        sleep();
+        try (Span span = span("enterEmail")) {
+            waitUntilVisible(emailInput);
+            sleep();
+            type(emailInput, email);
+            sleep();
+        }
     }
 
     /**
      * Clicks the subscribe button.
      */
     public void clickSubscribe() {
-        sleep();
-        subscribeButton.click();
-        sleep();
+        try (Span span = span("clickSubscribe")) {
+            sleep();
+            subscribeButton.click();
+            sleep();
+        }
     }
 
     /**
@@ -57,8 +61,10 @@ public class NewsletterPage extends BasePage {
      * @param email email address to use
      */
     public void subscribeWithEmail(String email) {
-        enterEmail(email);
-        clickSubscribe();
+        try (Span span = span("subscribeWithEmail")) {
+            enterEmail(email);
+            clickSubscribe();
+        }
     }
 
     /**
@@ -67,9 +73,11 @@ public class NewsletterPage extends BasePage {
      * @return a loaded {@link SuccessPage}
      */
     public SuccessPage waitForSuccess() {
-        SuccessPage successPage = new SuccessPage(driver, wait);
-        successPage.waitUntilLoaded();
-        return successPage;
+        try (Span span = span("waitForSuccess")) {
+            SuccessPage successPage = new SuccessPage(driver, wait);
+            successPage.waitUntilLoaded();
+            return successPage;
+        }
     }
 
     /**
@@ -78,7 +86,7 @@ public class NewsletterPage extends BasePage {
      * @return true if displayed; otherwise false
      */
     public boolean isValidationMessageDisplayed() {
-        try {
+        try (Span span = span("isValidationMessageDisplayed")) {
             return validationMessage.isDisplayed();
         } catch (Exception e) {
             return false;
@@ -91,8 +99,21 @@ public class NewsletterPage extends BasePage {
      * @return validation message text
      */
     public String getValidationMessage() {
-        waitUntilVisible(validationMessage);
-        return validationMessage.getText();
+        try (Span span = span("getValidationMessage")) {
+            waitUntilVisible(validationMessage);
+            return validationMessage.getText();
+        }
+    }
+
+    /**
+     * Returns the current value of the email input.
+     *
+     * @return the typed email text
+     */
+    public String getEmailValue() {
+        try (Span span = span("getEmailValue")) {
+            return emailInput.getDomProperty("value");
+        }
     }
 
     /**
@@ -101,6 +122,8 @@ public class NewsletterPage extends BasePage {
      * @return the input validation message string
      */
     public String getEmailInputValidationMessage() {
-        return emailInput.getAttribute("validationMessage");
+        try (Span span = span("getEmailInputValidationMessage")) {
+            return emailInput.getAttribute("validationMessage");
+        }
     }
 }
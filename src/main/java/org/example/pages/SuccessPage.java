@@ -1,5 +1,6 @@
 package org.example.pages;
 
+import org.example.tracing.Span;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
@@ -33,8 +34,10 @@ public class SuccessPage extends BasePage {
      * @return this page instance for chaining
      */
     public SuccessPage waitUntilLoaded() {
-        wait.until(ExpectedConditions.textToBePresentInElement(body, "Thanks"));
-        return this;
+        try (Span span = span("waitUntilLoaded")) {
+            wait.until(ExpectedConditions.textToBePresentInElement(body, "Thanks"));
+            return this;
+        }
     }
 
     /**
@@ -43,13 +46,17 @@ public class SuccessPage extends BasePage {
      * @return body text content
      */
     public String getHeadingText() {
-        return body.getText();
+        try (Span span = span("getHeadingText")) {
+            return body.getText();
+        }
     }
 
     /**
      * Clicks the dismiss button on the success page.
      */
     public void dismiss() {
-        dismissButton.click();
+        try (Span span = span("dismiss")) {
+            dismissButton.click();
+        }
     }
 }
@@ -0,0 +1,107 @@
+package org.example.tracing;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Serializes trace buffers into the Chrome trace-event JSON format.
+ *
+ * <p>Every span becomes a complete ("X") event with microsecond timestamps, and every
+ * thread gets a "thread_name" metadata event so workers are labelled in the timeline.
+ */
+final class ChromeTraceWriter {
+
+    private static final int PROCESS_ID = 1;
+
+    private ChromeTraceWriter() {
+    }
+
+    /**
+     * Writes the given buffers to a file.
+     *
+     * @param buffers buffers to export
+     * @param file destination file
+     * @throws IOException if the file cannot be written
+     */
+    static void write(List<TraceBuffer> buffers, Path file) throws IOException {
+        long origin = Long.MAX_VALUE;
+        for (TraceBuffer buffer : buffers) {
+            for (int i = 0, size = buffer.size(); i < size; i++) {
+                origin = Math.min(origin, buffer.startAt(i));
+            }
+        }
+
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+
+        try (Writer out = new BufferedWriter(Files.newBufferedWriter(file, StandardCharsets.UTF_8))) {
+            out.write("{\"displayTimeUnit\":\"ms\",\"traceEvents\":[");
+            boolean first = true;
+            for (TraceBuffer buffer : buffers) {
+                int size = buffer.size();
+                if (size == 0) {
+                    continue;
+                }
+                first = writeSeparator(out, first);
+                out.write("{\"ph\":\"M\",\"name\":\"thread_name\",\"pid\":" + PROCESS_ID
+                        + ",\"tid\":" + buffer.getThreadId() + ",\"args\":{\"name\":");
+                writeString(out, buffer.getThreadName());
+                out.write("}}");
+
+                for (int i = 0; i < size; i++) {
+                    first = writeSeparator(out, first);
+                    out.write("{\"ph\":\"X\",\"name\":");
+                    writeString(out, buffer.nameAt(i));
+                    out.write(",\"cat\":");
+                    writeString(out, buffer.categoryAt(i));
+                    out.write(",\"pid\":" + PROCESS_ID + ",\"tid\":" + buffer.getThreadId());
+                    out.write(",\"ts\":" + micros(buffer.startAt(i) - origin));
+                    out.write(",\"dur\":" + micros(buffer.durationAt(i)) + "}");
+                }
+            }
+            out.write("]}");
+        }
+    }
+
+    private static boolean writeSeparator(Writer out, boolean first) throws IOException {
+        if (!first) {
+            out.write(",\n");
+        }
+        return false;
+    }
+
+    private static String micros(long nanos) {
+        return (nanos / 1000) + "." + String.format(Locale.ROOT, "%03d", nanos % 1000);
+    }
+
+    private static void writeString(Writer out, String value) throws IOException {
+        out.write('"');
+        String text = value == null ? "" : value;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '"' -> out.write("\\\"");
+                case '\\' -> out.write("\\\\");
+                case '\n' -> out.write("\\n");
+                case '\r' -> out.write("\\r");
+                case '\t' -> out.write("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        out.write(String.format(Locale.ROOT, "\\u%04x", (int) c));
+                    } else {
+                        out.write(c);
+                    }
+                }
+            }
+        }
+        out.write('"');
+    }
+}
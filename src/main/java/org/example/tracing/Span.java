@@ -0,0 +1,36 @@
+package org.example.tracing;
+
+/**
+ * A timed section of work. Spans opened on the same thread nest by time, so closing them
+ * in reverse order (try-with-resources) produces a proper hierarchy in the exported trace.
+ */
+public final class Span implements AutoCloseable {
+
+    static final Span NOOP = new Span(null, null, null, 0L);
+
+    private final TraceBuffer buffer;
+    private final String name;
+    private final String category;
+    private final long startNanos;
+    private boolean closed;
+
+    Span(TraceBuffer buffer, String name, String category, long startNanos) {
+        this.buffer = buffer;
+        this.name = name;
+        this.category = category;
+        this.startNanos = startNanos;
+    }
+
+    /**
+     * Ends the span and records it in the buffer of the thread that opened it.
+     * Closing a span more than once has no effect.
+     */
+    @Override
+    public void close() {
+        if (buffer == null || closed) {
+            return;
+        }
+        closed = true;
+        buffer.append(name, category, startNanos, System.nanoTime() - startNanos);
+    }
+}
@@ -0,0 +1,94 @@
+package org.example.tracing;
+
+import java.util.Arrays;
+
+/**
+ * Append-only span storage owned by a single thread.
+ *
+ * <p>Only the owning thread writes to a buffer, so appends take no locks. The size is
+ * published through a volatile write so the exporter sees fully written slots.
+ */
+final class TraceBuffer {
+
+    private static final int INITIAL_CAPACITY = 256;
+
+    private final long threadId;
+    private final String threadName;
+
+    private String[] names = new String[INITIAL_CAPACITY];
+    private String[] categories = new String[INITIAL_CAPACITY];
+    private long[] startNanos = new long[INITIAL_CAPACITY];
+    private long[] durationNanos = new long[INITIAL_CAPACITY];
+    private volatile int size;
+
+    /**
+     * Creates a buffer for the given thread.
+     *
+     * @param thread the owning thread
+     */
+    TraceBuffer(Thread thread) {
+        this.threadId = thread.threadId();
+        this.threadName = thread.getName();
+    }
+
+    /**
+     * Appends a completed span. Must only be called by the owning thread.
+     *
+     * @param name span name
+     * @param category span category
+     * @param start start time from {@link System#nanoTime()}
+     * @param duration span duration in nanoseconds
+     */
+    void append(String name, String category, long start, long duration) {
+        int index = size;
+        if (index == names.length) {
+            int capacity = index * 2;
+            names = Arrays.copyOf(names, capacity);
+            categories = Arrays.copyOf(categories, capacity);
+            startNanos = Arrays.copyOf(startNanos, capacity);
+            durationNanos = Arrays.copyOf(durationNanos, capacity);
+        }
+        names[index] = name;
+        categories[index] = category;
+        startNanos[index] = start;
+        durationNanos[index] = duration;
+        size = index + 1;
+    }
+
+    /**
+     * @return number of recorded spans
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * @return id of the owning thread
+     */
+    long getThreadId() {
+        return threadId;
+    }
+
+    /**
+     * @return name of the owning thread
+     */
+    String getThreadName() {
+        return threadName;
+    }
+
+    String nameAt(int index) {
+        return names[index];
+    }
+
+    String categoryAt(int index) {
+        return categories[index];
+    }
+
+    long startAt(int index) {
+        return startNanos[index];
+    }
+
+    long durationAt(int index) {
+        return durationNanos[index];
+    }
+}
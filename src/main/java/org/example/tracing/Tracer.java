@@ -0,0 +1,85 @@
+package org.example.tracing;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Lightweight span tracer with per-thread buffers.
+ *
+ * <p>Tracing is disabled by default; while disabled {@link #start(String, String)} returns a
+ * shared no-op span. When enabled, spans are recorded into a buffer owned by the calling thread
+ * and can be exported once at the end of a run with {@link #exportChromeTrace(Path)}.
+ */
+public final class Tracer {
+
+    /** Category for whole test methods. */
+    public static final String TEST = "test";
+
+    /** Category for test steps. */
+    public static final String STEP = "step";
+
+    /** Category for page object methods. */
+    public static final String PAGE = "page";
+
+    /** Category for WebDriver commands. */
+    public static final String WEBDRIVER = "webdriver";
+
+    private static final Queue<TraceBuffer> BUFFERS = new ConcurrentLinkedQueue<>();
+
+    private static final ThreadLocal<TraceBuffer> CURRENT = ThreadLocal.withInitial(() -> {
+        TraceBuffer buffer = new TraceBuffer(Thread.currentThread());
+        BUFFERS.add(buffer);
+        return buffer;
+    });
+
+    private static volatile boolean enabled;
+
+    private Tracer() {
+    }
+
+    /**
+     * Turns span recording on or off for all threads.
+     *
+     * @param enabled true to record spans
+     */
+    public static void setEnabled(boolean enabled) {
+        Tracer.enabled = enabled;
+    }
+
+    /**
+     * @return true when spans are being recorded
+     */
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Opens a span on the current thread.
+     *
+     * @param name span name shown in the trace viewer
+     * @param category span category, e.g. {@link #STEP}
+     * @return the open span; close it to record the span
+     */
+    public static Span start(String name, String category) {
+        if (!enabled) {
+            return Span.NOOP;
+        }
+        return new Span(CURRENT.get(), name, category, System.nanoTime());
+    }
+
+    /**
+     * Writes all recorded spans as a Chrome trace-event JSON file that can be opened
+     * in chrome://tracing or Perfetto.
+     *
+     * @param file destination file
+     * @throws IOException if the file cannot be written
+     */
+    public static void exportChromeTrace(Path file) throws IOException {
+        List<TraceBuffer> snapshot = new ArrayList<>(BUFFERS);
+        ChromeTraceWriter.write(snapshot, file);
+    }
+}
@@ -0,0 +1,117 @@
+package org.example.utils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/**
+ * Single background writer shared by the whole test run.
+ *
+ * <p>Test threads only enqueue finished log blocks; the writer thread prints each block to
+ * the console in one piece and, when a file is given, writes it to disk. This keeps output
+ * from parallel tests from interleaving and keeps I/O off the test threads.
+ */
+public final class AsyncLogWriter {
+
+    private static final Entry SHUTDOWN = new Entry(List.of(), null);
+
+    private static AsyncLogWriter instance;
+
+    private final BlockingQueue<Entry> queue = new LinkedBlockingQueue<>();
+    private final Thread thread;
+
+    private AsyncLogWriter() {
+        thread = new Thread(this::run, "test-log-writer");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Returns the writer for this run, starting it on first use.
+     *
+     * @return the shared writer
+     */
+    public static synchronized AsyncLogWriter getInstance() {
+        if (instance == null) {
+            instance = new AsyncLogWriter();
+        }
+        return instance;
+    }
+
+    /**
+     * Returns the running writer without starting one.
+     *
+     * @return the shared writer, or null when none is running
+     */
+    public static synchronized AsyncLogWriter current() {
+        return instance;
+    }
+
+    /**
+     * Flushes pending entries and stops the writer for this run, if one was started.
+     */
+    public static void shutdown() {
+        AsyncLogWriter writer;
+        synchronized (AsyncLogWriter.class) {
+            writer = instance;
+            instance = null;
+        }
+        if (writer != null) {
+            writer.queue.add(SHUTDOWN);
+            try {
+                writer.thread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Queues lines for the console.
+     *
+     * @param lines lines to print together
+     */
+    public void write(List<String> lines) {
+        queue.add(new Entry(lines, null));
+    }
+
+    /**
+     * Queues lines for the console and the given file.
+     *
+     * @param lines lines to print together
+     * @param file file to write the lines to
+     */
+    public void write(List<String> lines, Path file) {
+        queue.add(new Entry(lines, file));
+    }
+
+    private void run() {
+        while (true) {
+            Entry entry;
+            try {
+                entry = queue.take();
+            } catch (InterruptedException e) {
+                return;
+            }
+            if (entry == SHUTDOWN) {
+                return;
+            }
+            System.out.println(String.join(System.lineSeparator(), entry.lines));
+            if (entry.file != null) {
+                try {
+                    Files.createDirectories(entry.file.toAbsolutePath().getParent());
+                    Files.write(entry.file, entry.lines, StandardCharsets.UTF_8);
+                } catch (IOException e) {
+                    System.err.println("[AsyncLogWriter] Failed to write " + entry.file + ": " + e.getMessage());
+                }
+            }
+        }
+    }
+
+    private record Entry(List<String> lines, Path file) {
+    }
+}
@@ -0,0 +1,87 @@
+package org.example.utils;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Bounded ring buffer of log lines for a single test.
+ *
+ * <p>Appending stores the raw message and a timestamp only; formatting is deferred until the
+ * buffer is dumped. Once the capacity is reached the oldest lines are overwritten.
+ */
+public class LogBuffer {
+
+    /** Default number of lines kept per test. */
+    public static final int DEFAULT_CAPACITY = 512;
+
+    private static final DateTimeFormatter TIME_FORMAT =
+            DateTimeFormatter.ofPattern("HH:mm:ss.SSS").withZone(ZoneId.systemDefault());
+
+    private final String name;
+    private final String[] messages;
+    private final long[] timestamps;
+    private long count;
+
+    /**
+     * Creates a buffer with the given capacity.
+     *
+     * @param name name of the test that owns the buffer
+     * @param capacity maximum number of lines kept
+     */
+    public LogBuffer(String name, int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive: " + capacity);
+        }
+        this.name = name;
+        this.messages = new String[capacity];
+        this.timestamps = new long[capacity];
+    }
+
+    /**
+     * Appends a message, overwriting the oldest one when full.
+     *
+     * @param message the log message
+     */
+    public void append(String message) {
+        int slot = (int) (count % messages.length);
+        messages[slot] = message;
+        timestamps[slot] = System.currentTimeMillis();
+        count++;
+    }
+
+    /**
+     * @return name of the test that owns the buffer
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return number of lines dropped because the buffer was full
+     */
+    public long getDroppedCount() {
+        return Math.max(0, count - messages.length);
+    }
+
+    /**
+     * Formats the retained lines, oldest first.
+     *
+     * @return formatted log lines
+     */
+    public List<String> formatLines() {
+        int retained = (int) Math.min(count, messages.length);
+        List<String> lines = new ArrayList<>(retained + 1);
+        long dropped = getDroppedCount();
+        if (dropped > 0) {
+            lines.add("... " + dropped + " earlier line(s) dropped");
+        }
+        for (long i = count - retained; i < count; i++) {
+            int slot = (int) (i % messages.length);
+            lines.add(TIME_FORMAT.format(Instant.ofEpochMilli(timestamps[slot])) + " " + messages[slot]);
+        }
+        return lines;
+    }
+}
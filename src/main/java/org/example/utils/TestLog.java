@@ -0,0 +1,59 @@
+package org.example.utils;
+
+import java.util.List;
+
+/**
+ * Per-test log that replaces direct {@code System.out} calls in tests and in the driver and
+ * page code they run.
+ *
+ * <p>While a test runs under the {@code TestLogExtension}, messages go to that test's
+ * {@link LogBuffer} and are only written out on failure or in verbose mode. Messages logged
+ * outside a test are handed to the running {@link AsyncLogWriter}, or printed directly when no
+ * writer is running, such as after the run has shut it down.
+ */
+public final class TestLog {
+
+    private static final ThreadLocal<LogBuffer> CURRENT = new ThreadLocal<>();
+
+    private TestLog() {
+    }
+
+    /**
+     * Logs a message for the current test.
+     *
+     * @param message the message to log
+     */
+    public static void log(String message) {
+        LogBuffer buffer = CURRENT.get();
+        if (buffer != null) {
+            buffer.append(message);
+        } else {
+            AsyncLogWriter writer = AsyncLogWriter.current();
+            if (writer != null) {
+                writer.write(List.of(message));
+            } else {
+                System.out.println(message);
+            }
+        }
+    }
+
+    /**
+     * Binds a buffer to the current thread.
+     *
+     * @param buffer the buffer for the running test
+     */
+    static void bind(LogBuffer buffer) {
+        CURRENT.set(buffer);
+    }
+
+    /**
+     * Removes the buffer bound to the current thread.
+     *
+     * @return the previously bound buffer, or null
+     */
+    static LogBuffer unbind() {
+        LogBuffer buffer = CURRENT.get();
+        CURRENT.remove();
+        return buffer;
+    }
+}
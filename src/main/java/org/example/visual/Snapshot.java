@@ -0,0 +1,86 @@
+package org.example.visual;
+
+import java.awt.image.BufferedImage;
+import java.util.Arrays;
+
+/**
+ * Decoded screenshot as a packed ARGB pixel array with a content hash per tile.
+ */
+final class Snapshot {
+
+    private static final long HASH_MULTIPLIER = 0x9E3779B97F4A7C15L;
+
+    final int width;
+    final int height;
+    final int tileSize;
+    final int tilesX;
+    final int tilesY;
+    final int[] pixels;
+    final long[] tileHashes;
+
+    /**
+     * Decodes an image and hashes the raw pixels of every tile.
+     *
+     * @param image the image to decode
+     * @param tileSize tile edge length in pixels
+     */
+    Snapshot(BufferedImage image, int tileSize) {
+        this.width = image.getWidth();
+        this.height = image.getHeight();
+        this.tileSize = tileSize;
+        this.tilesX = (width + tileSize - 1) / tileSize;
+        this.tilesY = (height + tileSize - 1) / tileSize;
+        this.pixels = image.getRGB(0, 0, width, height, null, 0, width);
+        this.tileHashes = new long[tilesX * tilesY];
+        for (int tile = 0; tile < tileHashes.length; tile++) {
+            tileHashes[tile] = hashTile(tile);
+        }
+    }
+
+    /**
+     * @return number of tiles
+     */
+    int tileCount() {
+        return tileHashes.length;
+    }
+
+    /**
+     * Checks whether a tile has exactly the same pixels in both snapshots. The hashes reject
+     * most changed tiles cheaply; equal hashes are confirmed row by row, so a hash collision
+     * never hides a change.
+     *
+     * @param other a snapshot of the same size and tile size
+     * @param tile the tile index
+     * @return true when every pixel of the tile is identical
+     */
+    boolean tileEquals(Snapshot other, int tile) {
+        if (tileHashes[tile] != other.tileHashes[tile]) {
+            return false;
+        }
+        int x0 = (tile % tilesX) * tileSize;
+        int y0 = (tile / tilesX) * tileSize;
+        int x1 = Math.min(x0 + tileSize, width);
+        int y1 = Math.min(y0 + tileSize, height);
+        for (int y = y0; y < y1; y++) {
+            int row = y * width;
+            if (!Arrays.equals(pixels, row + x0, row + x1, other.pixels, row + x0, row + x1)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private long hashTile(int tile) {
+        int x0 = (tile % tilesX) * tileSize;
+        int y0 = (tile / tilesX) * tileSize;
+        int x1 = Math.min(x0 + tileSize, width);
+        int y1 = Math.min(y0 + tileSize, height);
+        long hash = 0;
+        for (int y = y0; y < y1; y++) {
+            for (int x = x0; x < x1; x++) {
+                hash = (hash + pixels[y * width + x]) * HASH_MULTIPLIER;
+            }
+        }
+        return hash ^ (hash >>> 32);
+    }
+}
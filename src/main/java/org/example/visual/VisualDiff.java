@@ -0,0 +1,342 @@
+package org.example.visual;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.imageio.ImageIO;
+
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.TakesScreenshot;
+import org.openqa.selenium.WebDriver;
+
+/**
+ * Compares browser screenshots against stored baseline images.
+ *
+ * <p>Screenshots are split into square tiles. Tiles whose raw pixels are identical to the
+ * baseline are skipped; the remaining tiles are compared pixel by pixel in parallel on the
+ * common fork/join pool. A pixel only counts as changed when a channel differs by more than
+ * {@code colorTolerance} and it is not an anti-aliased edge pixel. As in pixelmatch, a pixel is
+ * anti-aliased when its neighbours within {@code antiAliasRadius} include both a darker and a
+ * brighter pixel, few of them share its brightness, and the darkest or brightest neighbour lies
+ * inside a flat region in both images. New lines, glyphs and colour shifts are always reported.
+ *
+ * <p>A missing baseline fails the check and the screenshot is written next to the diff images,
+ * unless baseline updates are enabled, in which case the screenshot becomes the new baseline.
+ * Diff images are only written for failed comparisons.
+ */
+public class VisualDiff {
+
+    /** Default tile edge length in pixels. */
+    public static final int DEFAULT_TILE_SIZE = 32;
+
+    private static final int TILES_PER_TASK = 4;
+    private static final int DIFF_COLOR = 0xffff0000;
+
+    private static final Map<Path, CachedBaseline> BASELINES = new ConcurrentHashMap<>();
+
+    private final Path baselineDir;
+    private final Path diffDir;
+    private final int tileSize;
+    private final int colorTolerance;
+    private final int antiAliasRadius;
+    private final double maxMismatchRatio;
+    private final boolean updateBaselines;
+
+    /**
+     * Creates a visual diff engine.
+     *
+     * @param baselineDir directory holding {@code <name>.png} baselines
+     * @param diffDir directory for diff images of failed comparisons
+     * @param tileSize tile edge length in pixels
+     * @param colorTolerance maximum per-channel difference (0-255) still treated as equal
+     * @param antiAliasRadius neighbourhood radius examined for anti-aliased edges, 0 to disable
+     * @param maxMismatchRatio largest fraction of changed pixels that still passes
+     * @param updateBaselines whether missing baselines are created instead of failing the check
+     */
+    public VisualDiff(Path baselineDir, Path diffDir, int tileSize, int colorTolerance, int antiAliasRadius,
+                      double maxMismatchRatio, boolean updateBaselines) {
+        if (tileSize <= 0) {
+            throw new IllegalArgumentException("tileSize must be positive: " + tileSize);
+        }
+        this.baselineDir = baselineDir;
+        this.diffDir = diffDir;
+        this.tileSize = tileSize;
+        this.colorTolerance = colorTolerance;
+        this.antiAliasRadius = antiAliasRadius;
+        this.maxMismatchRatio = maxMismatchRatio;
+        this.updateBaselines = updateBaselines;
+    }
+
+    /**
+     * Captures a screenshot and compares it against the baseline with the given name.
+     *
+     * @param driver the WebDriver instance; must support screenshots
+     * @param name baseline name, used as the file name
+     * @return the comparison result
+     */
+    public VisualDiffResult check(WebDriver driver, String name) {
+        byte[] png = ((TakesScreenshot) driver).getScreenshotAs(OutputType.BYTES);
+        try {
+            BufferedImage image = ImageIO.read(new ByteArrayInputStream(png));
+            if (image == null) {
+                throw new IOException("Screenshot is not a readable image");
+            }
+            return check(image, name);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to compare screenshot '" + name + "'", e);
+        }
+    }
+
+    /**
+     * Compares an image against the baseline with the given name.
+     *
+     * @param actual the captured image
+     * @param name baseline name, used as the file name
+     * @return the comparison result
+     * @throws IOException if the baseline or diff image cannot be read or written
+     */
+    public VisualDiffResult check(BufferedImage actual, String name) throws IOException {
+        Path baselineFile = baselineDir.resolve(name + ".png");
+        if (!Files.exists(baselineFile)) {
+            long totalPixels = (long) actual.getWidth() * actual.getHeight();
+            int tiles = ((actual.getWidth() + tileSize - 1) / tileSize)
+                    * ((actual.getHeight() + tileSize - 1) / tileSize);
+            if (!updateBaselines) {
+                Path diffImage = writeImage(actual, name + "-actual.png");
+                return new VisualDiffResult(name, false, totalPixels, totalPixels, tiles, tiles, false, diffImage);
+            }
+            Files.createDirectories(baselineDir);
+            ImageIO.write(actual, "png", baselineFile.toFile());
+            BASELINES.remove(baselineFile);
+            return new VisualDiffResult(name, true, 0, totalPixels, 0, tiles, true, null);
+        }
+
+        Snapshot baseline = loadBaseline(baselineFile);
+        Snapshot current = new Snapshot(actual, tileSize);
+        long totalPixels = (long) current.width * current.height;
+
+        if (baseline.width != current.width || baseline.height != current.height) {
+            Path diffImage = writeImage(actual, name + "-actual.png");
+            return new VisualDiffResult(name, false, totalPixels, totalPixels,
+                    current.tileCount(), current.tileCount(), false, diffImage);
+        }
+
+        int[] changed = new int[current.tileCount()];
+        int changedCount = 0;
+        for (int tile = 0; tile < changed.length; tile++) {
+            if (!current.tileEquals(baseline, tile)) {
+                changed[changedCount++] = tile;
+            }
+        }
+
+        byte[] mask = new byte[current.pixels.length];
+        AtomicLong mismatched = new AtomicLong();
+        if (changedCount > 0) {
+            ForkJoinPool.commonPool().invoke(
+                    new CompareTiles(baseline, current, changed, 0, changedCount, mask, mismatched));
+        }
+
+        boolean passed = mismatched.get() <= maxMismatchRatio * totalPixels;
+        Path diffImage = passed ? null : writeDiff(current, mask, name);
+        return new VisualDiffResult(name, passed, mismatched.get(), totalPixels, changedCount,
+                current.tileCount(), false, diffImage);
+    }
+
+    private Snapshot loadBaseline(Path file) throws IOException {
+        long modified = Files.getLastModifiedTime(file).toMillis();
+        CachedBaseline cached = BASELINES.get(file);
+        if (cached != null && cached.modified == modified && cached.snapshot.tileSize == tileSize) {
+            return cached.snapshot;
+        }
+        BufferedImage image = ImageIO.read(file.toFile());
+        if (image == null) {
+            throw new IOException("Unsupported baseline image: " + file);
+        }
+        Snapshot snapshot = new Snapshot(image, tileSize);
+        BASELINES.put(file, new CachedBaseline(modified, snapshot));
+        return snapshot;
+    }
+
+    private Path writeDiff(Snapshot current, byte[] mask, String name) throws IOException {
+        int[] out = new int[current.pixels.length];
+        for (int i = 0; i < out.length; i++) {
+            if (mask[i] != 0) {
+                out[i] = DIFF_COLOR;
+            } else {
+                // Fades unchanged pixels towards white so the changes stand out.
+                int argb = current.pixels[i];
+                int r = 255 - (255 - ((argb >> 16) & 0xff)) / 4;
+                int g = 255 - (255 - ((argb >> 8) & 0xff)) / 4;
+                int b = 255 - (255 - (argb & 0xff)) / 4;
+                out[i] = 0xff000000 | r << 16 | g << 8 | b;
+            }
+        }
+        BufferedImage image = new BufferedImage(current.width, current.height, BufferedImage.TYPE_INT_ARGB);
+        image.setRGB(0, 0, current.width, current.height, out, 0, current.width);
+        return writeImage(image, name + "-diff.png");
+    }
+
+    private Path writeImage(BufferedImage image, String fileName) throws IOException {
+        Files.createDirectories(diffDir);
+        Path file = diffDir.resolve(fileName);
+        ImageIO.write(image, "png", file.toFile());
+        return file;
+    }
+
+    private record CachedBaseline(long modified, Snapshot snapshot) {
+    }
+
+    /**
+     * Compares a range of changed tiles, splitting the range until it is small enough.
+     */
+    private final class CompareTiles extends RecursiveAction {
+
+        private final Snapshot baseline;
+        private final Snapshot current;
+        private final int[] tiles;
+        private final int from;
+        private final int to;
+        private final byte[] mask;
+        private final AtomicLong mismatched;
+
+        CompareTiles(Snapshot baseline, Snapshot current, int[] tiles, int from, int to, byte[] mask,
+                     AtomicLong mismatched) {
+            this.baseline = baseline;
+            this.current = current;
+            this.tiles = tiles;
+            this.from = from;
+            this.to = to;
+            this.mask = mask;
+            this.mismatched = mismatched;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= TILES_PER_TASK) {
+                long count = 0;
+                for (int i = from; i < to; i++) {
+                    count += compareTile(tiles[i]);
+                }
+                mismatched.addAndGet(count);
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new CompareTiles(baseline, current, tiles, from, middle, mask, mismatched),
+                    new CompareTiles(baseline, current, tiles, middle, to, mask, mismatched));
+        }
+
+        private int compareTile(int tile) {
+            int width = current.width;
+            int x0 = (tile % current.tilesX) * tileSize;
+            int y0 = (tile / current.tilesX) * tileSize;
+            int x1 = Math.min(x0 + tileSize, width);
+            int y1 = Math.min(y0 + tileSize, current.height);
+            int[] expected = baseline.pixels;
+            int[] actual = current.pixels;
+            int count = 0;
+            for (int y = y0; y < y1; y++) {
+                for (int x = x0; x < x1; x++) {
+                    int index = y * width + x;
+                    if (matches(expected[index], actual[index])) {
+                        continue;
+                    }
+                    if (antiAliasRadius > 0 && (isAntiAliased(expected, actual, x, y)
+                            || isAntiAliased(actual, expected, x, y))) {
+                        continue;
+                    }
+                    mask[index] = 1;
+                    count++;
+                }
+            }
+            return count;
+        }
+
+        /**
+         * Checks whether a pixel of {@code image} is an anti-aliased edge pixel: it has both a
+         * darker and a brighter neighbour, at most two neighbours of equal brightness, and its
+         * darkest or brightest neighbour sits in a flat region of both images.
+         */
+        private boolean isAntiAliased(int[] image, int[] other, int x, int y) {
+            int width = current.width;
+            int minX = Math.max(0, x - antiAliasRadius);
+            int maxX = Math.min(width - 1, x + antiAliasRadius);
+            int minY = Math.max(0, y - antiAliasRadius);
+            int maxY = Math.min(current.height - 1, y + antiAliasRadius);
+            double center = brightness(image[y * width + x]);
+            // Pixels on the image border count one equal neighbour up front, as in pixelmatch.
+            int equal = isOnBorder(x, y) ? 1 : 0;
+            double darkest = 0;
+            double brightest = 0;
+            int darkestIndex = -1;
+            int brightestIndex = -1;
+            for (int ny = minY; ny <= maxY; ny++) {
+                for (int nx = minX; nx <= maxX; nx++) {
+                    if (nx == x && ny == y) {
+                        continue;
+                    }
+                    int index = ny * width + nx;
+                    double delta = brightness(image[index]) - center;
+                    if (delta == 0) {
+                        if (++equal > 2) {
+                            return false;
+                        }
+                    } else if (delta < darkest) {
+                        darkest = delta;
+                        darkestIndex = index;
+                    } else if (delta > brightest) {
+                        brightest = delta;
+                        brightestIndex = index;
+                    }
+                }
+            }
+            if (darkestIndex < 0 || brightestIndex < 0) {
+                return false;
+            }
+            return (hasManySiblings(image, darkestIndex) && hasManySiblings(other, darkestIndex))
+                    || (hasManySiblings(image, brightestIndex) && hasManySiblings(other, brightestIndex));
+        }
+
+        /**
+         * Checks whether at least three direct neighbours of a pixel have exactly its color.
+         */
+        private boolean hasManySiblings(int[] image, int index) {
+            int width = current.width;
+            int x = index % width;
+            int y = index / width;
+            int argb = image[index];
+            int siblings = isOnBorder(x, y) ? 1 : 0;
+            for (int ny = Math.max(0, y - 1); ny <= Math.min(current.height - 1, y + 1); ny++) {
+                for (int nx = Math.max(0, x - 1); nx <= Math.min(width - 1, x + 1); nx++) {
+                    if ((nx != x || ny != y) && image[ny * width + nx] == argb && ++siblings > 2) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+
+        private boolean isOnBorder(int x, int y) {
+            return x == 0 || y == 0 || x == current.width - 1 || y == current.height - 1;
+        }
+
+        private double brightness(int argb) {
+            return ((argb >> 16) & 0xff) * 0.29889531 + ((argb >> 8) & 0xff) * 0.58662247
+                    + (argb & 0xff) * 0.11448223;
+        }
+
+        private boolean matches(int first, int second) {
+            return Math.abs(((first >> 16) & 0xff) - ((second >> 16) & 0xff)) <= colorTolerance
+                    && Math.abs(((first >> 8) & 0xff) - ((second >> 8) & 0xff)) <= colorTolerance
+                    && Math.abs((first & 0xff) - (second & 0xff)) <= colorTolerance;
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package org.example.visual;
+
+import java.nio.file.Path;
+import java.util.Locale;
+
+/**
+ * Outcome of a visual comparison.
+ *
+ * @param name name of the checked view
+ * @param passed whether the difference is within the allowed ratio
+ * @param mismatchedPixels number of pixels that differ beyond the tolerances
+ * @param totalPixels number of pixels in the screenshot
+ * @param changedTiles tiles that differ from the baseline and were compared pixel by pixel
+ * @param totalTiles number of tiles in the screenshot
+ * @param baselineCreated true when no baseline existed and the screenshot became the baseline
+ * @param diffImage diff image written for a failed comparison, or null
+ */
+public record VisualDiffResult(String name, boolean passed, long mismatchedPixels, long totalPixels,
+                               int changedTiles, int totalTiles, boolean baselineCreated, Path diffImage) {
+
+    /**
+     * @return fraction of mismatched pixels between 0 and 1
+     */
+    public double mismatchRatio() {
+        return totalPixels == 0 ? 0 : (double) mismatchedPixels / totalPixels;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(Locale.ROOT,
+                "%s: %s, %d of %d pixels differ (%.4f%%), %d of %d tiles compared%s%s",
+                name, passed ? "passed" : "FAILED", mismatchedPixels, totalPixels, mismatchRatio() * 100,
+                changedTiles, totalTiles, baselineCreated ? ", baseline created" : "",
+                diffImage == null ? "" : ", diff: " + diffImage);
+    }
+}
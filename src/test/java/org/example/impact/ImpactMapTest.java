@@ -0,0 +1,60 @@
+package org.example.impact;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for {@link ImpactMap}.
+ */
+class ImpactMapTest {
+
+    @TempDir
+    Path tempDir;
+
+    /**
+     * Verifies that a saved map loads back with the same entries.
+     */
+    @Test
+    void savedMapLoadsBack() throws IOException {
+        ImpactMap map = new ImpactMap();
+        map.put("a.FooTest#one", List.of("org.example.pages.BasePage", "org.example.pages.NewsletterPage#open"));
+        map.put("a.FooTest#two", List.of("org.example.config.TestConfig#<init>"));
+        Path file = tempDir.resolve("nested").resolve("impact-map.properties");
+
+        map.save(file);
+        ImpactMap loaded = ImpactMap.load(file);
+
+        assertEquals(Set.of("a.FooTest#one", "a.FooTest#two"), loaded.testIds());
+        assertEquals(Set.of("a.FooTest#one"), loaded.testsUsing(Set.of("org.example.pages.NewsletterPage")));
+    }
+
+    /**
+     * Verifies that a missing file yields an empty map.
+     */
+    @Test
+    void missingFileLoadsEmpty() throws IOException {
+        assertTrue(ImpactMap.load(tempDir.resolve("missing.properties")).isEmpty());
+    }
+
+    /**
+     * Verifies that usage of methods and nested classes counts as usage of the top-level class.
+     */
+    @Test
+    void testsUsingMatchesMethodsAndNestedClasses() {
+        ImpactMap map = new ImpactMap();
+        map.put("a.FooTest#method", List.of("org.example.pages.NewsletterPage#enterEmail"));
+        map.put("a.FooTest#nested", List.of("org.example.pages.NewsletterPage$Form#submit"));
+        map.put("a.FooTest#other", List.of("org.example.pages.NewsletterPageHelper"));
+
+        assertEquals(Set.of("a.FooTest#method", "a.FooTest#nested"),
+                map.testsUsing(Set.of("org.example.pages.NewsletterPage")));
+    }
+}
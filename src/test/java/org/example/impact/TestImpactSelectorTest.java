@@ -0,0 +1,134 @@
+package org.example.impact;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Unit tests for {@link TestImpactSelector}.
+ */
+class TestImpactSelectorTest {
+
+    private static final String SIGN_UP_TEST = "org.example.tests.NewsletterSignUpTest";
+
+    @TempDir
+    Path repoRoot;
+
+    private final ImpactMap map = new ImpactMap();
+
+    @BeforeEach
+    void setUp() {
+        map.put(SIGN_UP_TEST + "#validEmail", List.of("org.example.pages.NewsletterPage#enterEmail",
+                "org.example.pages.SuccessPage#getHeadingText"));
+        map.put(SIGN_UP_TEST + "#emptyEmail", List.of("org.example.pages.NewsletterPage#clickSubscribe"));
+        map.put(SIGN_UP_TEST + "#invalidEmail", List.of("org.example.pages.NewsletterPage$Form"));
+        map.put(SIGN_UP_TEST + "#visual", List.of("org.example.config.TestConfig#fromSystemProperties"));
+    }
+
+    /**
+     * Verifies that an empty change list is treated as unknown and selects the whole suite.
+     */
+    @Test
+    void emptyChangeListSelectsAll() {
+        assertEquals(TestImpactSelector.ALL, select());
+    }
+
+    /**
+     * Verifies that documentation-only changes select no tests.
+     */
+    @Test
+    void documentationOnlySelectsNone() {
+        assertEquals(TestImpactSelector.NONE, select("README.md", "docs/setup.md", ".gitignore"));
+    }
+
+    /**
+     * Verifies that a changed class without a map entry or unit test selects the whole suite.
+     */
+    @Test
+    void unmappedClassSelectsAll() {
+        assertEquals(TestImpactSelector.ALL, select("src/main/java/org/example/pages/InputStrategy.java"));
+    }
+
+    /**
+     * Verifies that an empty map cannot prove a change safe.
+     */
+    @Test
+    void emptyMapSelectsAll() {
+        assertEquals(TestImpactSelector.ALL, TestImpactSelector.select(new ImpactMap(), repoRoot,
+                List.of("src/main/java/org/example/pages/NewsletterPage.java")));
+    }
+
+    /**
+     * Verifies that a mapped page class selects the tests that used it, including nested classes.
+     */
+    @Test
+    void mappedPageClassSelectsItsTests() {
+        assertEquals(SIGN_UP_TEST + "#emptyEmail+invalidEmail+validEmail",
+                select("src/main/java/org/example/pages/NewsletterPage.java"));
+        assertEquals(SIGN_UP_TEST + "#validEmail+visual",
+                select("src/main/java/org/example/pages/SuccessPage.java",
+                        "src/main/java/org/example/config/TestConfig.java"));
+    }
+
+    /**
+     * Verifies that a changed class outside the tracked packages selects the whole suite.
+     */
+    @Test
+    void untrackedMainClassSelectsAll() {
+        assertEquals(TestImpactSelector.ALL, select("src/main/java/org/example/visual/VisualDiff.java"));
+    }
+
+    /**
+     * Verifies that a changed test class is run in full.
+     */
+    @Test
+    void changedTestClassSelectsWholeClass() {
+        assertEquals("org.example.visual.VisualDiffTest,org.example.tests.NewsletterSignUpTest#validEmail",
+                select("src/test/java/org/example/visual/VisualDiffTest.java",
+                        "src/main/java/org/example/pages/SuccessPage.java"));
+    }
+
+    /**
+     * Verifies that a changed shared test base class selects the whole suite.
+     */
+    @Test
+    void sharedTestClassSelectsAll() {
+        assertEquals(TestImpactSelector.ALL, select("src/test/java/org/example/tests/BaseTest.java"));
+    }
+
+    /**
+     * Verifies that a changed helper with its own unit test selects that test, resolved against
+     * the repository root rather than the working directory.
+     */
+    @Test
+    void helperWithUnitTestSelectsUnitTest() throws IOException {
+        String helper = "src/test/java/org/example/utils/RegressionDetector.java";
+        assertEquals(TestImpactSelector.ALL, select(helper));
+
+        Path unitTest = repoRoot.resolve("src/test/java/org/example/utils/RegressionDetectorTest.java");
+        Files.createDirectories(unitTest.getParent());
+        Files.createFile(unitTest);
+
+        assertEquals("org.example.utils.RegressionDetectorTest", select(helper));
+    }
+
+    /**
+     * Verifies that build and workflow changes select the whole suite.
+     */
+    @Test
+    void buildChangeSelectsAll() {
+        assertEquals(TestImpactSelector.ALL, select("pom.xml"));
+        assertEquals(TestImpactSelector.ALL, select(".github/workflows/ci.yml"));
+    }
+
+    private String select(String... changedFiles) {
+        return TestImpactSelector.select(map, repoRoot, List.of(changedFiles));
+    }
+}
@@ -4,28 +4,47 @@ import java.time.Duration;
 
 import org.example.config.TestConfig;
 import org.example.driver.DriverFactory;
+import org.example.tracing.Span;
+import org.example.tracing.Tracer;
+import org.example.utils.ImpactRecordingExtension;
+import org.example.utils.PerformanceExtension;
+import org.example.utils.TestLog;
+import org.example.utils.TestLogExtension;
+import org.example.utils.TracingExtension;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.extension.ExtendWith;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.support.ui.WebDriverWait;
 
 /**
  * Base test class that initializes the WebDriver and shared configuration.
  */
+@ExtendWith({ImpactRecordingExtension.class, TestLogExtension.class, TracingExtension.class,
+        PerformanceExtension.class})
 public abstract class BaseTest {
 
     protected WebDriver driver;
     protected WebDriverWait wait;
     protected TestConfig config;
 
+    private Span currentStep;
+    private String currentStepName;
+    private long currentStepStart;
+
     /**
-     * Creates the driver and explicit wait before each test.
+     * Creates the driver and explicit wait before each test and records how long it took
+     * until the driver was ready for its first command.
      */
     @BeforeEach
     void setUp() {
+        long start = System.nanoTime();
         config = TestConfig.fromSystemProperties();
         driver = new DriverFactory().createChromeDriver(config);
         wait = new WebDriverWait(driver, Duration.ofSeconds(config.getTimeoutSeconds()));
+        long startup = System.nanoTime() - start;
+        TestLog.log("Driver ready in " + startup / 1_000_000 + " ms");
+        PerformanceExtension.recordStep("Driver startup", startup);
     }
 
     /**
@@ -33,8 +52,34 @@ public abstract class BaseTest {
      */
     @AfterEach
     void tearDown() {
+        endStep();
         if (driver != null) {
             driver.quit();
         }
     }
+
+    /**
+     * Logs a test step and starts timing it, ending the previous step.
+     *
+     * @param description the step description
+     */
+    protected void step(String description) {
+        endStep();
+        TestLog.log(description);
+        currentStepName = description;
+        currentStepStart = System.nanoTime();
+        currentStep = Tracer.start(description, Tracer.STEP);
+    }
+
+    /**
+     * Ends the current step, if any, and records its duration.
+     */
+    private void endStep() {
+        if (currentStep != null) {
+            currentStep.close();
+            PerformanceExtension.recordStep(currentStepName, System.nanoTime() - currentStepStart);
+            currentStep = null;
+            currentStepName = null;
+        }
+    }
 }
@@ -1,10 +1,23 @@
 package org.example.tests;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+
+import org.example.pages.InputStrategy;
 import org.example.pages.NewsletterPage;
 import org.example.pages.SuccessPage;
+import org.example.utils.TestLog;
+import org.example.visual.VisualDiff;
+import org.example.visual.VisualDiffResult;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
 
 /**
  * UI tests for the newsletter sign-up flow.
@@ -22,6 +35,7 @@ class NewsletterSignUpTest extends BaseTest {
         super.setUp();
         newsletterPage = new NewsletterPage(driver, wait);
         newsletterPage.setDelayMillis(config.getDelayMillis());
+        newsletterPage.setInputStrategy(InputStrategy.valueOf(config.getInputStrategy().toUpperCase(Locale.ROOT)));
         newsletterPage.open(config.getBaseUrl());
     }
 
@@ -30,31 +44,31 @@ class NewsletterSignUpTest extends BaseTest {
      */
     @Test
     void userCanSubscribeWithValidEmail() {
-        System.out.println("[TEST] Valid Email Subscription Test");
+        TestLog.log("[TEST] Valid Email Subscription Test");
         String testEmail = "qaselenium";
         
         try {
-            System.out.println("Step 1: Entering email address: " + testEmail);
+            step("Step 1: Entering email address: " + testEmail);
             newsletterPage.subscribeWithEmail(testEmail);
             
-            System.out.println("Step 2: Waiting for success page to load");
+            step("Step 2: Waiting for success page to load");
             SuccessPage successPage = newsletterPage.waitForSuccess();
             
-            System.out.println("Step 3: Retrieving success page text");
+            step("Step 3: Retrieving success page text");
             String pageText = successPage.getHeadingText().toLowerCase();
             
-            System.out.println("Step 4: Verifying success message contains 'thanks'");
+            step("Step 4: Verifying success message contains 'thanks'");
             assertTrue(pageText.contains("thanks"), "Success message should contain 'thanks'");
             
-            System.out.println("Step 5: Verifying success message displays email: " + testEmail);
+            step("Step 5: Verifying success message displays email: " + testEmail);
             assertTrue(pageText.contains(testEmail.toLowerCase()), "Success message should display the email: " + testEmail);
             
-            System.out.println("✅ PASSED\n");
+            TestLog.log("✅ PASSED");
         } catch (AssertionError | Exception e) {
-            System.out.println("❌ FAILED at test step.");
-            System.out.println("Error Type: " + e.getClass().getSimpleName());
-            System.out.println("Error Message: " + e.getMessage());
-            System.out.println("Test Email Used: " + testEmail + "\n");
+            TestLog.log("❌ FAILED at test step.");
+            TestLog.log("Error Type: " + e.getClass().getSimpleName());
+            TestLog.log("Error Message: " + e.getMessage());
+            TestLog.log("Test Email Used: " + testEmail);
             throw e;
         }
     }
@@ -64,29 +78,29 @@ class NewsletterSignUpTest extends BaseTest {
      */
     @Test
     void userSeesValidationMessageForEmptyEmail() {
-        System.out.println("[TEST] Empty Email Validation Test");
+        TestLog.log("[TEST] Empty Email Validation Test");
         
         try {
-            System.out.println("Step 1: Clicking subscribe button without email");
+            step("Step 1: Clicking subscribe button without email");
             newsletterPage.clickSubscribe();
             
-            System.out.println("Step 2: Checking if validation message is displayed");
+            step("Step 2: Checking if validation message is displayed");
             boolean messageDisplayed = newsletterPage.isValidationMessageDisplayed();
             
-            System.out.println("Step 3: Retrieving HTML5 validation message");
+            step("Step 3: Retrieving HTML5 validation message");
             String message = newsletterPage.getEmailInputValidationMessage();
             
-            System.out.println("Step 4: Verifying validation message exists");
-            System.out.println("Message Displayed: " + messageDisplayed + ", Message Text: " + message);
+            step("Step 4: Verifying validation message exists");
+            TestLog.log("Message Displayed: " + messageDisplayed + ", Message Text: " + message);
             // HTML5 validation prevents form submission
             assertTrue(messageDisplayed || !message.isEmpty(),
                        "Validation message should be displayed for empty email");
             
-            System.out.println("✅ PASSED\n");
+            TestLog.log("✅ PASSED");
         } catch (AssertionError | Exception e) {
-            System.out.println("❌ FAILED at test step.");
-            System.out.println("Error Type: " + e.getClass().getSimpleName());
-            System.out.println("Error Message: " + e.getMessage() + "\n");
+            TestLog.log("❌ FAILED at test step.");
+            TestLog.log("Error Type: " + e.getClass().getSimpleName());
+            TestLog.log("Error Message: " + e.getMessage());
             throw e;
         }
     }
@@ -96,34 +110,34 @@ class NewsletterSignUpTest extends BaseTest {
      */
     @Test
     void userSeesValidationMessageForInvalidEmailFormat() {
-        System.out.println("[TEST] Invalid Email Format Validation Test");
+        TestLog.log("[TEST] Invalid Email Format Validation Test");
         String invalidEmail = "123456789";
         
         try {
-            System.out.println("Step 1: Entering invalid email format: " + invalidEmail);
+            step("Step 1: Entering invalid email format: " + invalidEmail);
             newsletterPage.enterEmail(invalidEmail);
             
-            System.out.println("Step 2: Clicking subscribe button");
+            step("Step 2: Clicking subscribe button");
             newsletterPage.clickSubscribe();
             
-            System.out.println("Step 3: Checking if validation message is displayed");
+            step("Step 3: Checking if validation message is displayed");
             boolean messageDisplayed = newsletterPage.isValidationMessageDisplayed();
             
-            System.out.println("Step 4: Retrieving HTML5 validation message");
+            step("Step 4: Retrieving HTML5 validation message");
             String message = newsletterPage.getEmailInputValidationMessage();
             
-            System.out.println("Step 5: Verifying validation message exists");
-            System.out.println("Message Displayed: " + messageDisplayed + ", Message Text: " + message);
+            step("Step 5: Verifying validation message exists");
+            TestLog.log("Message Displayed: " + messageDisplayed + ", Message Text: " + message);
             // HTML5 validation prevents form submission
             assertTrue(messageDisplayed || !message.isEmpty(),
                        "Validation message should be displayed for invalid email format");
             
-            System.out.println("✅ PASSED\n");
+            TestLog.log("✅ PASSED");
         } catch (AssertionError | Exception e) {
-            System.out.println("❌ FAILED at test step.");
-            System.out.println("Error Type: " + e.getClass().getSimpleName());
-            System.out.println("Error Message: " + e.getMessage());
-            System.out.println("Email Tested: " + invalidEmail + "\n");
+            TestLog.log("❌ FAILED at test step.");
+            TestLog.log("Error Type: " + e.getClass().getSimpleName());
+            TestLog.log("Error Message: " + e.getMessage());
+            TestLog.log("Email Tested: " + invalidEmail);
             throw e;
         }
     }
@@ -133,34 +147,34 @@ class NewsletterSignUpTest extends BaseTest {
      */
     @Test
     void userSeesValidationMessageForIncompleteEmail() {
-        System.out.println("[TEST] Incomplete Email Validation Test");
+        TestLog.log("[TEST] Incomplete Email Validation Test");
         String incompleteEmail = "test@";
         
         try {
-            System.out.println("Step 1: Entering incomplete email: " + incompleteEmail);
+            step("Step 1: Entering incomplete email: " + incompleteEmail);
             newsletterPage.enterEmail(incompleteEmail);
             
-            System.out.println("Step 2: Clicking subscribe button");
+            step("Step 2: Clicking subscribe button");
             newsletterPage.clickSubscribe();
             
-            System.out.println("Step 3: Checking if validation message is displayed");
+            step("Step 3: Checking if validation message is displayed");
             boolean messageDisplayed = newsletterPage.isValidationMessageDisplayed();
             
-            System.out.println("Step 4: Retrieving HTML5 validation message");
+            step("Step 4: Retrieving HTML5 validation message");
             String message = newsletterPage.getEmailInputValidationMessage();
             
-            System.out.println("Step 5: Verifying validation message exists");
-            System.out.println("Message Displayed: " + messageDisplayed + ", Message Text: " + message);
+            step("Step 5: Verifying validation message exists");
+            TestLog.log("Message Displayed: " + messageDisplayed + ", Message Text: " + message);
             // HTML5 validation prevents form submission
             assertTrue(messageDisplayed || !message.isEmpty(),
                        "Validation message should be displayed for incomplete email");
             
-            System.out.println("✅ PASSED\n");
+            TestLog.log("✅ PASSED");
         } catch (AssertionError | Exception e) {
-            System.out.println("❌ FAILED at test step.");
-            System.out.println("Error Type: " + e.getClass().getSimpleName());
-            System.out.println("Error Message: " + e.getMessage());
-            System.out.println("Email Tested: " + incompleteEmail + "\n");
+            TestLog.log("❌ FAILED at test step.");
+            TestLog.log("Error Type: " + e.getClass().getSimpleName());
+            TestLog.log("Error Message: " + e.getMessage());
+            TestLog.log("Email Tested: " + incompleteEmail);
             throw e;
         }
     }
@@ -170,34 +184,120 @@ class NewsletterSignUpTest extends BaseTest {
      */
     @Test
     void userSeesValidationMessageForEmailWithoutDomain() {
-        System.out.println("[TEST] Email Without Domain Validation Test");
+        TestLog.log("[TEST] Email Without Domain Validation Test");
         String emailWithoutDomain = "test@domain";
         
         try {
-            System.out.println("Step 1: Entering email without proper domain: " + emailWithoutDomain);
+            step("Step 1: Entering email without proper domain: " + emailWithoutDomain);
             newsletterPage.enterEmail(emailWithoutDomain);
             
-            System.out.println("Step 2: Clicking subscribe button");
+            step("Step 2: Clicking subscribe button");
             newsletterPage.clickSubscribe();
             
-            System.out.println("Step 3: Checking if validation message is displayed");
+            step("Step 3: Checking if validation message is displayed");
             boolean messageDisplayed = newsletterPage.isValidationMessageDisplayed();
             
-            System.out.println("Step 4: Retrieving HTML5 validation message");
+            step("Step 4: Retrieving HTML5 validation message");
             String message = newsletterPage.getEmailInputValidationMessage();
             
-            System.out.println("Step 5: Verifying validation message exists");
-            System.out.println("Message Displayed: " + messageDisplayed + ", Message Text: " + message);
+            step("Step 5: Verifying validation message exists");
+            TestLog.log("Message Displayed: " + messageDisplayed + ", Message Text: " + message);
             // HTML5 validation prevents form submission
             assertTrue(messageDisplayed || !message.isEmpty(),
                        "Validation message should be displayed for email without proper domain");
             
-            System.out.println("✅ PASSED\n");
+            TestLog.log("✅ PASSED");
+        } catch (AssertionError | Exception e) {
+            TestLog.log("❌ FAILED at test step.");
+            TestLog.log("Error Type: " + e.getClass().getSimpleName());
+            TestLog.log("Error Message: " + e.getMessage());
+            TestLog.log("Email Tested: " + emailWithoutDomain);
+            throw e;
+        }
+    }
+
+    /**
+     * Verifies that every input strategy types into the email input and triggers the
+     * HTML5 validation message for an invalid email.
+     *
+     * @param strategy the input strategy under test
+     */
+    @ParameterizedTest
+    @EnumSource(InputStrategy.class)
+    void everyInputStrategyTriggersValidationForInvalidEmail(InputStrategy strategy) {
+        TestLog.log("[TEST] Input Strategy Validation Test: " + strategy);
+        String invalidEmail = "123456789";
+
+        try {
+            step("Step 1: Entering invalid email with " + strategy + " input: " + invalidEmail);
+            newsletterPage.setInputStrategy(strategy);
+            newsletterPage.enterEmail(invalidEmail);
+
+            step("Step 2: Verifying the email input holds the typed text");
+            assertEquals(invalidEmail, newsletterPage.getEmailValue(),
+                    "Email input should hold the text typed with " + strategy);
+
+            step("Step 3: Clicking subscribe button");
+            newsletterPage.clickSubscribe();
+
+            step("Step 4: Verifying HTML5 validation message exists");
+            String message = newsletterPage.getEmailInputValidationMessage();
+            TestLog.log("Message Text: " + message);
+            assertFalse(message == null || message.isEmpty(),
+                    "Validation message should be set for invalid email typed with " + strategy);
+
+            TestLog.log("✅ PASSED");
+        } catch (AssertionError | Exception e) {
+            TestLog.log("❌ FAILED at test step.");
+            TestLog.log("Error Type: " + e.getClass().getSimpleName());
+            TestLog.log("Error Message: " + e.getMessage());
+            TestLog.log("Input Strategy: " + strategy);
+            throw e;
+        }
+    }
+
+    /**
+     * Verifies that the newsletter form and the success view match their visual baselines.
+     * Runs only in headless mode, where the window size is fixed, and is skipped until the
+     * baselines exist unless baseline updates are enabled.
+     */
+    @Test
+    void newsletterAndSuccessViewsMatchVisualBaseline() {
+        assumeTrue(config.isHeadless(), "Visual baselines are captured in headless mode");
+        Path baselineDir = Path.of(config.getVisualBaselineDir());
+        assumeTrue(config.isUpdateVisualBaselines()
+                        || (Files.exists(baselineDir.resolve("newsletter.png"))
+                            && Files.exists(baselineDir.resolve("success.png"))),
+                "No visual baselines in " + baselineDir + "; run with -DupdateVisualBaselines=true to create them");
+        TestLog.log("[TEST] Visual Regression Test");
+        String testEmail = "qaselenium";
+        VisualDiff visualDiff = new VisualDiff(baselineDir,
+                Path.of("target", "visual-diffs"), VisualDiff.DEFAULT_TILE_SIZE,
+                config.getVisualColorTolerance(), config.getVisualAntiAliasRadius(), 0.001,
+                config.isUpdateVisualBaselines());
+
+        try {
+            step("Step 1: Comparing newsletter form against baseline");
+            VisualDiffResult formResult = visualDiff.check(driver, "newsletter");
+            TestLog.log(formResult.toString());
+
+            step("Step 2: Subscribing with email: " + testEmail);
+            newsletterPage.subscribeWithEmail(testEmail);
+            newsletterPage.waitForSuccess();
+
+            step("Step 3: Comparing success view against baseline");
+            VisualDiffResult successResult = visualDiff.check(driver, "success");
+            TestLog.log(successResult.toString());
+
+            step("Step 4: Verifying both views match");
+            assertTrue(formResult.passed(), "Newsletter form should match baseline: " + formResult);
+            assertTrue(successResult.passed(), "Success view should match baseline: " + successResult);
+
+            TestLog.log("✅ PASSED");
         } catch (AssertionError | Exception e) {
-            System.out.println("❌ FAILED at test step.");
-            System.out.println("Error Type: " + e.getClass().getSimpleName());
-            System.out.println("Error Message: " + e.getMessage());
-            System.out.println("Email Tested: " + emailWithoutDomain + "\n");
+            TestLog.log("❌ FAILED at test step.");
+            TestLog.log("Error Type: " + e.getClass().getSimpleName());
+            TestLog.log("Error Message: " + e.getMessage());
             throw e;
         }
     }
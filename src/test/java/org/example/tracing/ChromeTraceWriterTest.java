@@ -0,0 +1,114 @@
+package org.example.tracing;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.openqa.selenium.json.Json;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for {@link ChromeTraceWriter} and {@link TraceBuffer}.
+ */
+class ChromeTraceWriterTest {
+
+    private static final long BASE = 5_000_000_000L;
+
+    private static final String ESCAPED_NAME = "say \"hi\" \\ to\nall\tnow\u0001";
+
+    @TempDir
+    Path tempDir;
+
+    /**
+     * Verifies that nested spans from two threads, one of them beyond the buffer's initial
+     * capacity, export as valid JSON with escaped names, microsecond times and per-thread ids.
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    void exportsNestedSpansFromTwoThreads() throws Exception {
+        TraceBuffer first = recordOn("worker-1", buffer -> {
+            for (int i = 0; i < 300; i++) {
+                buffer.append("inner " + i, Tracer.PAGE, BASE + 1_000 + i * 10_000L, 5_000);
+            }
+            buffer.append("outer", Tracer.STEP, BASE, 3_500_000);
+        });
+        TraceBuffer second = recordOn("worker-2", buffer -> {
+            buffer.append(ESCAPED_NAME, Tracer.WEBDRIVER, BASE + 1_234_567, 2_000_001);
+            buffer.append("test", Tracer.TEST, BASE + 1_000_000, 4_000_000);
+        });
+        assertEquals(301, first.size());
+        assertNotEquals(first.getThreadId(), second.getThreadId());
+
+        Path file = tempDir.resolve("trace").resolve("trace.json");
+        ChromeTraceWriter.write(List.of(first, second), file);
+        String json = Files.readString(file, StandardCharsets.UTF_8);
+        Map<String, Object> trace = new Json().toType(json, Json.MAP_TYPE);
+        List<Map<String, Object>> events = (List<Map<String, Object>>) trace.get("traceEvents");
+
+        assertEquals(2 + 301 + 2, events.size());
+        assertEquals(List.of("worker-1", "worker-2"), events.stream()
+                .filter(event -> "M".equals(event.get("ph")))
+                .map(event -> ((Map<String, Object>) event.get("args")).get("name"))
+                .toList());
+        assertEquals(301, events.stream()
+                .filter(event -> "X".equals(event.get("ph")))
+                .filter(event -> ((Number) event.get("tid")).longValue() == first.getThreadId())
+                .count());
+        assertEquals(2, events.stream()
+                .filter(event -> "X".equals(event.get("ph")))
+                .filter(event -> ((Number) event.get("tid")).longValue() == second.getThreadId())
+                .count());
+
+        Map<String, Object> escaped = events.stream()
+                .filter(event -> ESCAPED_NAME.equals(event.get("name")))
+                .findFirst()
+                .orElseThrow();
+        assertEquals(Tracer.WEBDRIVER, escaped.get("cat"));
+        assertTrue(json.contains("\"ts\":1234.567,\"dur\":2000.001}"), "Microsecond times with three decimals");
+        assertTrue(json.contains("\"name\":\"outer\",\"cat\":\"step\",\"pid\":1,\"tid\":" + first.getThreadId()
+                + ",\"ts\":0.000,\"dur\":3500.000}"), "Earliest span starts at zero");
+        assertTrue(json.contains("\"name\":\"inner 299\",\"cat\":\"page\",\"pid\":1,\"tid\":" + first.getThreadId()
+                + ",\"ts\":2991.000,\"dur\":5.000}"), "Spans appended after growth are kept");
+    }
+
+    /**
+     * Verifies that spans opened with try-with-resources nest by time in the thread's buffer.
+     */
+    @Test
+    void closedSpansNestByTime() throws Exception {
+        TraceBuffer buffer = recordOn("worker", owner -> {
+            try (Span outer = new Span(owner, "outer", Tracer.STEP, System.nanoTime())) {
+                new Span(owner, "inner", Tracer.PAGE, System.nanoTime()).close();
+            }
+        });
+
+        assertEquals(2, buffer.size());
+        assertEquals("inner", buffer.nameAt(0));
+        assertEquals("outer", buffer.nameAt(1));
+        assertTrue(buffer.startAt(1) <= buffer.startAt(0));
+        assertTrue(buffer.startAt(0) + buffer.durationAt(0) <= buffer.startAt(1) + buffer.durationAt(1));
+    }
+
+    /**
+     * Creates a buffer owned by a new thread and fills it on that thread.
+     */
+    private static TraceBuffer recordOn(String threadName, Consumer<TraceBuffer> spans) throws Exception {
+        TraceBuffer[] result = new TraceBuffer[1];
+        Thread thread = new Thread(() -> {
+            result[0] = new TraceBuffer(Thread.currentThread());
+            spans.accept(result[0]);
+        }, threadName);
+        thread.start();
+        thread.join();
+        return result[0];
+    }
+}
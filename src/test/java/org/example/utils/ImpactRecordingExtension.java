@@ -0,0 +1,87 @@
+package org.example.utils;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.example.config.TestConfig;
+import org.example.impact.ImpactMap;
+import org.example.impact.UsageRecorder;
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.BeforeAllCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+/**
+ * JUnit extension that records which project classes each test exercises and merges the
+ * result into the test impact map when {@code -DimpactMap=...} is set.
+ *
+ * <p>Register it before other extensions so recording also covers their callbacks.
+ */
+public class ImpactRecordingExtension implements BeforeAllCallback, BeforeEachCallback, AfterEachCallback {
+
+    private static final ExtensionContext.Namespace NAMESPACE =
+            ExtensionContext.Namespace.create(ImpactRecordingExtension.class);
+
+    @Override
+    public void beforeAll(ExtensionContext context) {
+        String impactMapFile = TestConfig.fromSystemProperties().getImpactMapFile();
+        if (impactMapFile.isEmpty()) {
+            return;
+        }
+        // Stored in the root context so the map is written once, after the last test class.
+        context.getRoot().getStore(NAMESPACE).getOrComputeIfAbsent(MapUpdate.class,
+                key -> new MapUpdate(Path.of(impactMapFile)), MapUpdate.class);
+    }
+
+    @Override
+    public void beforeEach(ExtensionContext context) {
+        if (mapUpdate(context) != null) {
+            UsageRecorder.begin();
+        }
+    }
+
+    @Override
+    public void afterEach(ExtensionContext context) {
+        MapUpdate update = mapUpdate(context);
+        if (update == null) {
+            return;
+        }
+        String testId = context.getRequiredTestClass().getName() + "#"
+                + context.getRequiredTestMethod().getName();
+        update.usageByTest.put(testId, UsageRecorder.end());
+    }
+
+    private static MapUpdate mapUpdate(ExtensionContext context) {
+        return context.getRoot().getStore(NAMESPACE).get(MapUpdate.class, MapUpdate.class);
+    }
+
+    /**
+     * Merges the usage recorded in this run into the map file when the root context is closed.
+     * Tests that did not run keep their previously recorded usage.
+     */
+    private static final class MapUpdate implements ExtensionContext.Store.CloseableResource {
+
+        private final Path file;
+        private final Map<String, Set<String>> usageByTest = new ConcurrentHashMap<>();
+
+        MapUpdate(Path file) {
+            this.file = file;
+        }
+
+        @Override
+        public void close() {
+            try {
+                ImpactMap map = ImpactMap.load(file);
+                usageByTest.forEach(map::put);
+                map.save(file);
+                System.out.println("[ImpactRecordingExtension] Recorded " + usageByTest.size()
+                        + " test(s) in " + file.toAbsolutePath());
+            } catch (IOException e) {
+                System.err.println("[ImpactRecordingExtension] Failed to update impact map: " + e.getMessage());
+            }
+        }
+    }
+}
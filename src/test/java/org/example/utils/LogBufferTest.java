@@ -0,0 +1,52 @@
+package org.example.utils;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for {@link LogBuffer}.
+ */
+class LogBufferTest {
+
+    /**
+     * Verifies that a buffer below capacity keeps every line in order and drops nothing.
+     */
+    @Test
+    void keepsAllLinesBelowCapacity() {
+        LogBuffer buffer = new LogBuffer("test", 3);
+        buffer.append("one");
+        buffer.append("two");
+
+        List<String> lines = buffer.formatLines();
+
+        assertEquals(0, buffer.getDroppedCount());
+        assertEquals(2, lines.size());
+        assertTrue(lines.get(0).endsWith(" one"));
+        assertTrue(lines.get(1).endsWith(" two"));
+    }
+
+    /**
+     * Verifies that a full buffer wraps around, keeps the newest lines oldest first and
+     * reports how many lines were dropped.
+     */
+    @Test
+    void wrapsAroundAndCountsDroppedLines() {
+        LogBuffer buffer = new LogBuffer("test", 3);
+        for (int i = 1; i <= 8; i++) {
+            buffer.append("line " + i);
+        }
+
+        List<String> lines = buffer.formatLines();
+
+        assertEquals(5, buffer.getDroppedCount());
+        assertEquals(4, lines.size());
+        assertEquals("... 5 earlier line(s) dropped", lines.get(0));
+        assertTrue(lines.get(1).endsWith(" line 6"));
+        assertTrue(lines.get(2).endsWith(" line 7"));
+        assertTrue(lines.get(3).endsWith(" line 8"));
+    }
+}
@@ -0,0 +1,130 @@
+package org.example.utils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.example.config.TestConfig;
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.BeforeAllCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+/**
+ * JUnit extension that records test and step latencies and, at the end of the run, compares
+ * them against earlier runs with a {@link RegressionDetector} when {@code -DperfHistory=...} is set.
+ *
+ * <p>Step samples are buffered per test and only recorded, together with the test duration,
+ * when the test passes, so failures and timeouts do not skew the history. The report is printed
+ * and written to {@code target/perf-report.txt}; the current run is then appended to the history file.
+ */
+public class PerformanceExtension implements BeforeAllCallback, BeforeEachCallback, AfterEachCallback {
+
+    private static final ExtensionContext.Namespace NAMESPACE =
+            ExtensionContext.Namespace.create(PerformanceExtension.class);
+
+    private static final Path REPORT_FILE = Path.of("target", "perf-report.txt");
+
+    private static final int MAX_HISTORY_RUNS = 50;
+
+    private static final ThreadLocal<TestSamples> CURRENT_TEST = new ThreadLocal<>();
+
+    private static volatile RunTimings timings;
+
+    @Override
+    public void beforeAll(ExtensionContext context) {
+        String historyFile = TestConfig.fromSystemProperties().getPerfHistoryFile();
+        if (historyFile.isEmpty()) {
+            return;
+        }
+        // Stored in the root context so the comparison runs once, after the last test class.
+        timings = context.getRoot().getStore(NAMESPACE).getOrComputeIfAbsent(RunTimings.class,
+                key -> new RunTimings(Path.of(historyFile)), RunTimings.class);
+    }
+
+    @Override
+    public void beforeEach(ExtensionContext context) {
+        if (timings == null) {
+            return;
+        }
+        // Keyed per invocation so each parameter of a parameterized test has its own distribution.
+        CURRENT_TEST.set(new TestSamples(TestNames.of(context), System.nanoTime(), new ArrayList<>()));
+    }
+
+    @Override
+    public void afterEach(ExtensionContext context) {
+        TestSamples test = CURRENT_TEST.get();
+        CURRENT_TEST.remove();
+        if (test == null || context.getExecutionException().isPresent()) {
+            return;
+        }
+        for (StepSample step : test.steps()) {
+            record(step.key(), step.durationNanos());
+        }
+        record(test.name(), System.nanoTime() - test.startNanos());
+    }
+
+    /**
+     * Buffers the duration of a step of the running test until the test has passed.
+     *
+     * @param step the step description
+     * @param durationNanos step duration in nanoseconds
+     */
+    public static void recordStep(String step, long durationNanos) {
+        TestSamples test = CURRENT_TEST.get();
+        if (test != null) {
+            test.steps().add(new StepSample(test.name() + " > " + step, durationNanos));
+        }
+    }
+
+    private static void record(String key, long durationNanos) {
+        RunTimings current = timings;
+        if (current != null) {
+            current.samples.computeIfAbsent(key, k -> Collections.synchronizedList(new ArrayList<>()))
+                    .add(durationNanos / 1_000_000.0);
+        }
+    }
+
+    private record TestSamples(String name, long startNanos, List<StepSample> steps) {
+    }
+
+    private record StepSample(String key, long durationNanos) {
+    }
+
+    /**
+     * Collects the run's samples and compares them with the history when the root context is closed.
+     */
+    private static final class RunTimings implements ExtensionContext.Store.CloseableResource {
+
+        private final Path historyFile;
+        private final Map<String, List<Double>> samples = new ConcurrentHashMap<>();
+
+        RunTimings(Path historyFile) {
+            this.historyFile = historyFile;
+        }
+
+        @Override
+        public void close() {
+            timings = null;
+            try {
+                PerformanceHistory history = PerformanceHistory.load(historyFile, MAX_HISTORY_RUNS);
+                PerformanceReport report = new RegressionDetector(0.01, 1.2, 3, 10).compare(samples, history);
+                String text = TestResultFormatter.formatPerformanceReport(report);
+                System.out.println(text);
+                Files.createDirectories(REPORT_FILE.toAbsolutePath().getParent());
+                Files.writeString(REPORT_FILE, text, StandardCharsets.UTF_8);
+
+                history.addRun(System.currentTimeMillis(), samples);
+                history.save(historyFile);
+            } catch (IOException e) {
+                System.err.println("[PerformanceExtension] Failed to update performance history: " + e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package org.example.utils;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Rolling history of test and step latencies from earlier runs.
+ *
+ * <p>The file holds one {@code runId<TAB>key<TAB>millis} line per sample. Only the most recent
+ * {@code maxRuns} runs are kept when the history is saved.
+ */
+public class PerformanceHistory {
+
+    private final int maxRuns;
+    private final Map<Long, Map<String, List<Double>>> runs = new TreeMap<>();
+
+    /**
+     * Creates an empty history.
+     *
+     * @param maxRuns number of most recent runs to keep
+     */
+    public PerformanceHistory(int maxRuns) {
+        this.maxRuns = maxRuns;
+    }
+
+    /**
+     * Loads a history file. A missing file yields an empty history.
+     *
+     * @param file the history file
+     * @param maxRuns number of most recent runs to keep
+     * @return the loaded history
+     * @throws IOException if the file cannot be read
+     */
+    public static PerformanceHistory load(Path file, int maxRuns) throws IOException {
+        PerformanceHistory history = new PerformanceHistory(maxRuns);
+        if (!Files.exists(file)) {
+            return history;
+        }
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String[] fields = line.split("\t");
+                if (line.startsWith("#") || fields.length != 3) {
+                    continue;
+                }
+                try {
+                    history.add(Long.parseLong(fields[0]), fields[1], Double.parseDouble(fields[2]));
+                } catch (NumberFormatException e) {
+                    // Skips corrupt lines instead of discarding the whole history.
+                }
+            }
+        }
+        return history;
+    }
+
+    /**
+     * Writes the most recent runs to disk, creating parent directories as needed.
+     *
+     * @param file the history file
+     * @throws IOException if the file cannot be written
+     */
+    public void save(Path file) throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        List<Long> runIds = new ArrayList<>(runs.keySet());
+        List<Long> kept = runIds.subList(Math.max(0, runIds.size() - maxRuns), runIds.size());
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            writer.write("# run\tkey\tmillis");
+            writer.newLine();
+            for (Long runId : kept) {
+                for (Map.Entry<String, List<Double>> entry : runs.get(runId).entrySet()) {
+                    for (Double millis : entry.getValue()) {
+                        writer.write(runId + "\t" + entry.getKey() + "\t"
+                                + String.format(Locale.ROOT, "%.3f", millis));
+                        writer.newLine();
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Adds a sample to a run.
+     *
+     * @param runId identifier of the run, increasing over time
+     * @param key test or step key
+     * @param millis latency in milliseconds
+     */
+    public void add(long runId, String key, double millis) {
+        String sanitized = key.replace('\t', ' ').replace('\n', ' ').replace('\r', ' ');
+        runs.computeIfAbsent(runId, id -> new LinkedHashMap<>())
+                .computeIfAbsent(sanitized, k -> new ArrayList<>())
+                .add(millis);
+    }
+
+    /**
+     * Adds all samples of a run.
+     *
+     * @param runId identifier of the run, increasing over time
+     * @param samples latencies in milliseconds by key
+     */
+    public void addRun(long runId, Map<String, List<Double>> samples) {
+        samples.forEach((key, values) -> values.forEach(value -> add(runId, key, value)));
+    }
+
+    /**
+     * Returns recorded runs, most recent first.
+     *
+     * @return samples by key for each run
+     */
+    public List<Map<String, List<Double>>> runsNewestFirst() {
+        List<Map<String, List<Double>>> result = new ArrayList<>(runs.values());
+        Collections.reverse(result);
+        return result;
+    }
+}
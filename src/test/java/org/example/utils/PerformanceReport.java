@@ -0,0 +1,38 @@
+package org.example.utils;
+
+import java.util.List;
+
+/**
+ * Result of comparing the current run's latencies against the rolling baseline.
+ *
+ * @param comparedKeys number of tests and steps that had enough history to compare
+ * @param regressions significant slowdowns, worst first
+ */
+public record PerformanceReport(int comparedKeys, List<Regression> regressions) {
+
+    /**
+     * A test or step that became significantly slower.
+     *
+     * @param key the test or step key
+     * @param baselineMedianMillis median latency of the baseline runs
+     * @param currentMedianMillis median latency of the current window
+     * @param pValue one-sided Mann-Whitney U p-value
+     */
+    public record Regression(String key, double baselineMedianMillis, double currentMedianMillis,
+                             double pValue) {
+
+        /**
+         * @return current median divided by baseline median
+         */
+        public double slowdown() {
+            return currentMedianMillis / baselineMedianMillis;
+        }
+    }
+
+    /**
+     * @return true when at least one significant slowdown was found
+     */
+    public boolean hasRegressions() {
+        return !regressions.isEmpty();
+    }
+}
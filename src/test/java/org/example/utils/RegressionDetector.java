@@ -0,0 +1,160 @@
+package org.example.utils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Flags tests and steps whose latency increased significantly compared to earlier runs.
+ *
+ * <p>The current window is the current run plus the most recent earlier runs, so that a
+ * single slow run is not enough to raise an alarm. It is compared against the older runs
+ * with a one-sided Mann-Whitney U test, which makes no assumption about the shape of the
+ * latency distribution and is robust to outliers. A key is reported only when the result is
+ * significant and the median slowed down by at least {@code minSlowdown}.
+ */
+public class RegressionDetector {
+
+    private final double alpha;
+    private final double minSlowdown;
+    private final int windowRuns;
+    private final int minBaselineSamples;
+
+    /**
+     * Creates a detector.
+     *
+     * @param alpha significance level, e.g. 0.01
+     * @param minSlowdown minimum ratio of current to baseline median, e.g. 1.2 for 20% slower
+     * @param windowRuns number of runs, including the current one, in the current window
+     * @param minBaselineSamples minimum baseline samples required to compare a key
+     */
+    public RegressionDetector(double alpha, double minSlowdown, int windowRuns, int minBaselineSamples) {
+        this.alpha = alpha;
+        this.minSlowdown = minSlowdown;
+        this.windowRuns = windowRuns;
+        this.minBaselineSamples = minBaselineSamples;
+    }
+
+    /**
+     * Compares the current run against the history of earlier runs.
+     *
+     * @param current latencies of the current run in milliseconds, by key
+     * @param history earlier runs; must not yet contain the current run
+     * @return the comparison report
+     */
+    public PerformanceReport compare(Map<String, List<Double>> current, PerformanceHistory history) {
+        List<Map<String, List<Double>>> earlier = history.runsNewestFirst();
+        int recentRuns = Math.min(windowRuns - 1, earlier.size());
+        List<Map<String, List<Double>>> recent = earlier.subList(0, recentRuns);
+        List<Map<String, List<Double>>> baselineRuns = earlier.subList(recentRuns, earlier.size());
+
+        int compared = 0;
+        List<PerformanceReport.Regression> regressions = new ArrayList<>();
+        for (Map.Entry<String, List<Double>> entry : current.entrySet()) {
+            String key = entry.getKey();
+            double[] window = collect(key, entry.getValue(), recent);
+            double[] baseline = collect(key, List.of(), baselineRuns);
+            if (window.length == 0 || baseline.length < minBaselineSamples) {
+                continue;
+            }
+            compared++;
+
+            double baselineMedian = median(baseline);
+            double windowMedian = median(window);
+            if (windowMedian < baselineMedian * minSlowdown) {
+                continue;
+            }
+            double pValue = mannWhitneyGreaterPValue(window, baseline);
+            if (pValue < alpha) {
+                regressions.add(new PerformanceReport.Regression(key, baselineMedian, windowMedian, pValue));
+            }
+        }
+        regressions.sort(Comparator.comparingDouble(PerformanceReport.Regression::slowdown).reversed());
+        return new PerformanceReport(compared, List.copyOf(regressions));
+    }
+
+    private static double[] collect(String key, List<Double> first, List<Map<String, List<Double>>> runs) {
+        List<Double> values = new ArrayList<>(first);
+        for (Map<String, List<Double>> run : runs) {
+            values.addAll(run.getOrDefault(key, List.of()));
+        }
+        return values.stream().mapToDouble(Double::doubleValue).toArray();
+    }
+
+    /**
+     * Returns the median of the given values.
+     *
+     * @param values non-empty sample
+     * @return the median
+     */
+    static double median(double[] values) {
+        double[] sorted = values.clone();
+        Arrays.sort(sorted);
+        int middle = sorted.length / 2;
+        return sorted.length % 2 == 1 ? sorted[middle] : (sorted[middle - 1] + sorted[middle]) / 2;
+    }
+
+    /**
+     * One-sided Mann-Whitney U test that {@code sample} tends to be larger than {@code baseline},
+     * using the normal approximation with tie and continuity correction.
+     *
+     * @param sample the sample expected to be larger
+     * @param baseline the reference sample
+     * @return the p-value
+     */
+    static double mannWhitneyGreaterPValue(double[] sample, double[] baseline) {
+        int n1 = sample.length;
+        int n2 = baseline.length;
+        int n = n1 + n2;
+        double[] values = new double[n];
+        boolean[] fromSample = new boolean[n];
+        Integer[] order = new Integer[n];
+        for (int i = 0; i < n; i++) {
+            values[i] = i < n1 ? sample[i] : baseline[i - n1];
+            fromSample[i] = i < n1;
+            order[i] = i;
+        }
+        Arrays.sort(order, Comparator.comparingDouble(i -> values[i]));
+
+        // Assigns average ranks to ties and accumulates the tie correction term.
+        double sampleRankSum = 0;
+        double tieTerm = 0;
+        for (int start = 0; start < n; ) {
+            int end = start;
+            while (end + 1 < n && values[order[end + 1]] == values[order[start]]) {
+                end++;
+            }
+            double rank = (start + end) / 2.0 + 1;
+            for (int i = start; i <= end; i++) {
+                if (fromSample[order[i]]) {
+                    sampleRankSum += rank;
+                }
+            }
+            int ties = end - start + 1;
+            tieTerm += (double) ties * ties * ties - ties;
+            start = end + 1;
+        }
+
+        double u = sampleRankSum - n1 * (n1 + 1) / 2.0;
+        double mean = n1 * (double) n2 / 2.0;
+        double variance = n1 * (double) n2 / 12.0 * ((n + 1) - tieTerm / ((double) n * (n - 1)));
+        if (variance <= 0) {
+            return 1.0;
+        }
+        double z = (u - mean - 0.5) / Math.sqrt(variance);
+        return 1.0 - standardNormalCdf(z);
+    }
+
+    /**
+     * Standard normal CDF using the Abramowitz and Stegun 7.1.26 approximation of erf.
+     */
+    private static double standardNormalCdf(double z) {
+        double x = Math.abs(z) / Math.sqrt(2);
+        double t = 1.0 / (1.0 + 0.3275911 * x);
+        double erf = 1.0 - (((((1.061405429 * t - 1.453152027) * t) + 1.421413741) * t
+                - 0.284496736) * t + 0.254829592) * t * Math.exp(-x * x);
+        return z >= 0 ? 0.5 * (1.0 + erf) : 0.5 * (1.0 - erf);
+    }
+}
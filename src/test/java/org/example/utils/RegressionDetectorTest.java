@@ -0,0 +1,76 @@
+package org.example.utils;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for {@link RegressionDetector}.
+ */
+class RegressionDetectorTest {
+
+    private final RegressionDetector detector = new RegressionDetector(0.01, 1.2, 3, 10);
+
+    /**
+     * Verifies that a slowdown sustained over the current window is reported.
+     */
+    @Test
+    void flagsSustainedSlowdown() {
+        PerformanceHistory history = stableHistory();
+        history.add(15, "step", 150);
+        history.add(16, "step", 155);
+
+        PerformanceReport report = detector.compare(Map.of("step", List.of(160.0)), history);
+
+        assertTrue(report.hasRegressions(), "Sustained slowdown should be reported");
+        assertEquals("step", report.regressions().get(0).key());
+        assertEquals(155.0, report.regressions().get(0).currentMedianMillis());
+    }
+
+    /**
+     * Verifies that a single slow run is not reported on its own.
+     */
+    @Test
+    void ignoresSingleSlowRun() {
+        PerformanceReport report = detector.compare(Map.of("step", List.of(300.0)), stableHistory());
+
+        assertEquals(1, report.comparedKeys());
+        assertFalse(report.hasRegressions(), "A single slow run should not be reported");
+    }
+
+    /**
+     * Verifies that keys without enough baseline samples are skipped.
+     */
+    @Test
+    void skipsKeysWithoutEnoughHistory() {
+        PerformanceReport report = detector.compare(Map.of("new step", List.of(500.0)), stableHistory());
+
+        assertEquals(0, report.comparedKeys());
+        assertFalse(report.hasRegressions());
+    }
+
+    /**
+     * Verifies the one-sided Mann-Whitney p-value for clearly separated and identical samples.
+     */
+    @Test
+    void mannWhitneyPValue() {
+        double[] baseline = {10, 11, 12, 13, 14, 15, 16, 17, 18, 19, 20};
+
+        assertTrue(RegressionDetector.mannWhitneyGreaterPValue(new double[] {30, 31, 32}, baseline) < 0.01);
+        assertTrue(RegressionDetector.mannWhitneyGreaterPValue(new double[] {12, 15, 18}, baseline) > 0.4);
+        assertEquals(1.0, RegressionDetector.mannWhitneyGreaterPValue(new double[] {5, 5}, new double[] {5, 5, 5}));
+    }
+
+    private static PerformanceHistory stableHistory() {
+        PerformanceHistory history = new PerformanceHistory(50);
+        for (int run = 0; run < 15; run++) {
+            history.add(run, "step", 100 + run % 3);
+        }
+        return history;
+    }
+}
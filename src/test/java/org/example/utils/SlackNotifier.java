@@ -1,5 +1,7 @@
 package org.example.utils;
 
+import org.example.impact.UsageRecorder;
+
 /**
  * Sends detailed test results to Slack webhooks.
  * Ensures consistent, detailed notifications for both passed and failed tests.
@@ -25,8 +27,9 @@ public class SlackNotifier {
      * @param testData test data used
      */
     public void notifyTestPassed(String testName, String[] steps, String testData) {
+        UsageRecorder.record(SlackNotifier.class, "notifyTestPassed");
         if (webhookUrl == null || webhookUrl.isEmpty()) {
-            System.out.println("[SlackNotifier] Webhook URL not configured, skipping notification");
+            TestLog.log("[SlackNotifier] Webhook URL not configured, skipping notification");
             return;
         }
 
@@ -46,8 +49,9 @@ public class SlackNotifier {
      */
     public void notifyTestFailed(String testName, String[] steps, int failedAtStep,
                                  String errorType, String errorMessage, String testData) {
+        UsageRecorder.record(SlackNotifier.class, "notifyTestFailed");
         if (webhookUrl == null || webhookUrl.isEmpty()) {
-            System.out.println("[SlackNotifier] Webhook URL not configured, skipping notification");
+            TestLog.log("[SlackNotifier] Webhook URL not configured, skipping notification");
             return;
         }
 
@@ -65,9 +69,9 @@ public class SlackNotifier {
         try {
             // In a real scenario, this would use HttpClient to POST to the webhook
             // For now, we log the message that would be sent
-            System.out.println("[SlackNotifier] Would send to Slack:\n" + message);
+            TestLog.log("[SlackNotifier] Would send to Slack:\n" + message);
         } catch (Exception e) {
-            System.err.println("[SlackNotifier] Failed to send notification: " + e.getMessage());
+            TestLog.log("[SlackNotifier] Failed to send notification: " + e.getMessage());
         }
     }
 }
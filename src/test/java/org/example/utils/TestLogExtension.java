@@ -0,0 +1,67 @@
+package org.example.utils;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+import org.example.config.TestConfig;
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.BeforeAllCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+/**
+ * JUnit extension that gives every test its own {@link LogBuffer}.
+ *
+ * <p>The buffer is written to the console and to {@code target/test-logs} only when the test
+ * fails, or for every test when {@code -Dverbose=true} is set. Each invocation of a
+ * parameterized test gets its own buffer and log file.
+ */
+public class TestLogExtension implements BeforeAllCallback, BeforeEachCallback, AfterEachCallback {
+
+    private static final ExtensionContext.Namespace NAMESPACE =
+            ExtensionContext.Namespace.create(TestLogExtension.class);
+
+    private static final Path LOG_DIR = Path.of("target", "test-logs");
+
+    @Override
+    public void beforeAll(ExtensionContext context) {
+        // Stored in the root context so the writer is flushed once, after the last test class.
+        context.getRoot().getStore(NAMESPACE).getOrComputeIfAbsent(WriterShutdown.class,
+                key -> new WriterShutdown(), WriterShutdown.class);
+    }
+
+    @Override
+    public void beforeEach(ExtensionContext context) {
+        TestLog.bind(new LogBuffer(TestNames.of(context), LogBuffer.DEFAULT_CAPACITY));
+    }
+
+    @Override
+    public void afterEach(ExtensionContext context) {
+        LogBuffer buffer = TestLog.unbind();
+        if (buffer == null) {
+            return;
+        }
+        Optional<Throwable> failure = context.getExecutionException();
+        if (failure.isEmpty() && !TestConfig.fromSystemProperties().isVerbose()) {
+            return;
+        }
+
+        List<String> lines = buffer.formatLines();
+        String status = failure.map(e -> "FAILED: " + e).orElse("PASSED");
+        lines.add(0, "===== " + buffer.getName() + " =====");
+        lines.add("===== " + status + " =====");
+        AsyncLogWriter.getInstance().write(lines, LOG_DIR.resolve(TestNames.toFileName(buffer.getName()) + ".log"));
+    }
+
+    /**
+     * Flushes and stops the run's log writer when the root extension context is closed.
+     */
+    private static final class WriterShutdown implements ExtensionContext.Store.CloseableResource {
+
+        @Override
+        public void close() {
+            AsyncLogWriter.shutdown();
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package org.example.utils;
+
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+/**
+ * Names tests consistently for logs and latency keys.
+ */
+final class TestNames {
+
+    private TestNames() {
+    }
+
+    /**
+     * Returns {@code Class.method} for a test, followed by the invocation's display name for
+     * parameterized and repeated tests, such as {@code Class.method [1] NATIVE}.
+     *
+     * @param context the test's extension context
+     * @return the test name
+     */
+    static String of(ExtensionContext context) {
+        String name = context.getRequiredTestClass().getSimpleName() + "."
+                + context.getRequiredTestMethod().getName();
+        // Invocations of a test template have the template, which also has the method, as parent.
+        boolean invocation = context.getParent().flatMap(ExtensionContext::getTestMethod).isPresent();
+        return invocation ? name + " " + context.getDisplayName() : name;
+    }
+
+    /**
+     * Turns a test name into a file name by replacing unsafe characters.
+     *
+     * @param name the test name
+     * @return a file name without extension
+     */
+    static String toFileName(String name) {
+        return name.replaceAll("[^A-Za-z0-9._-]+", "_");
+    }
+}
@@ -1,5 +1,9 @@
 package org.example.utils;
 
+import java.util.Locale;
+
+import org.example.impact.UsageRecorder;
+
 /**
  * Formats test results for detailed Slack notifications.
  * Ensures both passed and failed tests have consistent, detailed output.
@@ -19,6 +23,7 @@ public class TestResultFormatter {
      * @return formatted message for Slack
      */
     public static String formatPassedTest(String testName, String[] steps, String testData) {
+        UsageRecorder.record(TestResultFormatter.class, "formatPassedTest");
         StringBuilder message = new StringBuilder();
         message.append(PASS_ICON).append(" *TEST PASSED*\n");
         message.append("*Test:* ").append(testName).append("\n\n");
@@ -52,6 +57,7 @@ public class TestResultFormatter {
      */
     public static String formatFailedTest(String testName, String[] steps, int failedAtStep,
                                           String errorType, String errorMessage, String testData) {
+        UsageRecorder.record(TestResultFormatter.class, "formatFailedTest");
         StringBuilder message = new StringBuilder();
         message.append(FAIL_ICON).append(" *TEST FAILED*\n");
         message.append("*Test:* ").append(testName).append("\n\n");
@@ -94,6 +100,7 @@ public class TestResultFormatter {
      * @return formatted message for Slack
      */
     public static String formatTestSummary(String testName, boolean passed, String message) {
+        UsageRecorder.record(TestResultFormatter.class, "formatTestSummary");
         StringBuilder summary = new StringBuilder();
         if (passed) {
             summary.append(PASS_ICON).append(" *TEST PASSED*\n");
@@ -104,4 +111,44 @@ public class TestResultFormatter {
         summary.append("*Details:* ").append(message).append("\n");
         return summary.toString();
     }
+
+    /**
+     * Formats a test summary followed by the performance regression report.
+     *
+     * @param testName the name of the test
+     * @param passed whether the test passed
+     * @param message the message to display
+     * @param report the performance comparison for the run
+     * @return formatted message for Slack
+     */
+    public static String formatTestSummary(String testName, boolean passed, String message,
+                                           PerformanceReport report) {
+        return formatTestSummary(testName, passed, message) + "\n" + formatPerformanceReport(report);
+    }
+
+    /**
+     * Formats a performance regression report for Slack.
+     *
+     * @param report the performance comparison for the run
+     * @return formatted message for Slack
+     */
+    public static String formatPerformanceReport(PerformanceReport report) {
+        UsageRecorder.record(TestResultFormatter.class, "formatPerformanceReport");
+        StringBuilder message = new StringBuilder();
+        if (report.hasRegressions()) {
+            message.append("🐢 *PERFORMANCE REGRESSIONS*\n");
+        } else {
+            message.append(PASS_ICON).append(" *NO PERFORMANCE REGRESSIONS*\n");
+        }
+        message.append("*Compared:* ").append(report.comparedKeys()).append(" tests and steps\n");
+
+        for (PerformanceReport.Regression regression : report.regressions()) {
+            message.append("• ").append(regression.key()).append(": ")
+                    .append(String.format(Locale.ROOT, "%.0f ms → %.0f ms (%.2fx, p=%.4f)",
+                            regression.baselineMedianMillis(), regression.currentMedianMillis(),
+                            regression.slowdown(), regression.pValue()))
+                    .append("\n");
+        }
+        return message.toString();
+    }
 }
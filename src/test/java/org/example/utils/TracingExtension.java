@@ -0,0 +1,71 @@
+package org.example.utils;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import org.example.config.TestConfig;
+import org.example.tracing.Span;
+import org.example.tracing.Tracer;
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.BeforeAllCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+/**
+ * JUnit extension that records a span per test and exports the whole run as a
+ * Chrome trace-event file when {@code -DtraceFile=...} is set.
+ */
+public class TracingExtension implements BeforeAllCallback, BeforeEachCallback, AfterEachCallback {
+
+    private static final ExtensionContext.Namespace NAMESPACE =
+            ExtensionContext.Namespace.create(TracingExtension.class);
+
+    @Override
+    public void beforeAll(ExtensionContext context) {
+        TestConfig config = TestConfig.fromSystemProperties();
+        if (!config.isTracingEnabled()) {
+            return;
+        }
+        Tracer.setEnabled(true);
+        // Stored in the root context so the trace is exported once, after the last test class.
+        context.getRoot().getStore(NAMESPACE).getOrComputeIfAbsent(TraceExport.class,
+                key -> new TraceExport(Path.of(config.getTraceFile())), TraceExport.class);
+    }
+
+    @Override
+    public void beforeEach(ExtensionContext context) {
+        String name = context.getRequiredTestClass().getSimpleName() + "."
+                + context.getRequiredTestMethod().getName();
+        context.getStore(NAMESPACE).put(Span.class, Tracer.start(name, Tracer.TEST));
+    }
+
+    @Override
+    public void afterEach(ExtensionContext context) {
+        Span span = context.getStore(NAMESPACE).remove(Span.class, Span.class);
+        if (span != null) {
+            span.close();
+        }
+    }
+
+    /**
+     * Writes the trace file when the root extension context is closed.
+     */
+    private static final class TraceExport implements ExtensionContext.Store.CloseableResource {
+
+        private final Path file;
+
+        TraceExport(Path file) {
+            this.file = file;
+        }
+
+        @Override
+        public void close() {
+            try {
+                Tracer.exportChromeTrace(file);
+                System.out.println("[TracingExtension] Trace written to " + file.toAbsolutePath());
+            } catch (IOException e) {
+                System.err.println("[TracingExtension] Failed to write trace: " + e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package org.example.visual;
+
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for {@link VisualDiff} using generated images.
+ */
+class VisualDiffTest {
+
+    @TempDir
+    Path tempDir;
+
+    /**
+     * Verifies that a missing baseline fails the check and keeps the screenshot for review.
+     */
+    @Test
+    void missingBaselineFails() throws IOException {
+        VisualDiffResult result = diff(1, false).check(image(40, Color.BLACK), "view");
+
+        assertFalse(result.passed());
+        assertFalse(result.baselineCreated());
+        assertTrue(Files.exists(result.diffImage()));
+        assertFalse(Files.exists(tempDir.resolve("baselines").resolve("view.png")));
+    }
+
+    /**
+     * Verifies that a missing baseline is created from the first image when updates are enabled.
+     */
+    @Test
+    void createsMissingBaselineWhenUpdating() throws IOException {
+        VisualDiffResult result = diff(1).check(image(40, Color.BLACK), "view");
+
+        assertTrue(result.passed());
+        assertTrue(result.baselineCreated());
+        assertTrue(Files.exists(tempDir.resolve("baselines").resolve("view.png")));
+    }
+
+    /**
+     * Verifies that identical images skip every tile and write no diff image.
+     */
+    @Test
+    void identicalImagesSkipAllTiles() throws IOException {
+        VisualDiff diff = diff(1);
+        diff.check(image(40, Color.BLACK), "view");
+
+        VisualDiffResult result = diff.check(image(40, Color.BLACK), "view");
+
+        assertTrue(result.passed());
+        assertEquals(0, result.changedTiles());
+        assertNull(result.diffImage());
+    }
+
+    /**
+     * Verifies that a differently anti-aliased edge is tolerated only when detection is enabled.
+     */
+    @Test
+    void antiAliasRadiusToleratesAntiAliasedEdge() throws IOException {
+        diff(1).check(image(40, Color.BLACK, new Color(128, 128, 128)), "view");
+
+        assertTrue(diff(1).check(image(40, Color.BLACK, new Color(96, 96, 96)), "view").passed());
+        assertFalse(diff(0).check(image(40, Color.BLACK, new Color(96, 96, 96)), "view").passed());
+    }
+
+    /**
+     * Verifies that a new one-pixel line is reported even with anti-alias detection enabled.
+     */
+    @Test
+    void newOnePixelLineIsReported() throws IOException {
+        diff(1).check(image(40, Color.BLACK), "view");
+        BufferedImage actual = image(40, Color.BLACK);
+        Graphics2D graphics = actual.createGraphics();
+        graphics.setColor(Color.DARK_GRAY);
+        graphics.drawLine(0, 80, 199, 80);
+        graphics.dispose();
+
+        VisualDiffResult result = diff(1).check(actual, "view");
+
+        assertFalse(result.passed());
+        assertEquals(200, result.mismatchedPixels());
+    }
+
+    /**
+     * Verifies that a changed anti-aliased glyph is reported even with anti-alias detection enabled.
+     */
+    @Test
+    void changedGlyphIsReported() throws IOException {
+        diff(1).check(text("E"), "view");
+
+        VisualDiffResult result = diff(1).check(text("F"), "view");
+
+        assertFalse(result.passed());
+        assertTrue(result.mismatchedPixels() >= 10, "Changed glyph pixels: " + result.mismatchedPixels());
+    }
+
+    /**
+     * Verifies that a pixel moving inside a tile is compared, although the tile's average
+     * brightness and color stay the same.
+     */
+    @Test
+    void smallMoveInsideTileIsReported() throws IOException {
+        BufferedImage baseline = image(40, Color.BLACK);
+        baseline.setRGB(1, 1, Color.BLACK.getRGB());
+        diff(1).check(baseline, "view");
+        BufferedImage actual = image(40, Color.BLACK);
+        actual.setRGB(2, 1, Color.BLACK.getRGB());
+
+        VisualDiffResult result = diff(1).check(actual, "view");
+
+        assertFalse(result.passed());
+        assertEquals(1, result.changedTiles());
+        assertEquals(2, result.mismatchedPixels());
+    }
+
+    /**
+     * Verifies that a color shift beyond the tolerance is reported for every pixel of the shape.
+     */
+    @Test
+    void colorShiftIsReported() throws IOException {
+        diff(1).check(image(40, new Color(100, 100, 100)), "view");
+
+        VisualDiffResult result = diff(1).check(image(40, new Color(124, 124, 124)), "view");
+
+        assertFalse(result.passed());
+        assertEquals(50 * 30, result.mismatchedPixels());
+    }
+
+    /**
+     * Verifies that a changed color fails and writes a diff image.
+     */
+    @Test
+    void changedColorFailsWithDiffImage() throws IOException {
+        diff(1).check(image(40, Color.BLACK), "view");
+
+        VisualDiffResult result = diff(1).check(image(40, Color.BLUE), "view");
+
+        assertFalse(result.passed());
+        assertEquals(50 * 30, result.mismatchedPixels());
+        assertTrue(Files.exists(result.diffImage()));
+    }
+
+    private VisualDiff diff(int antiAliasRadius) {
+        return diff(antiAliasRadius, true);
+    }
+
+    private VisualDiff diff(int antiAliasRadius, boolean updateBaselines) {
+        return new VisualDiff(tempDir.resolve("baselines"), tempDir.resolve("diffs"),
+                VisualDiff.DEFAULT_TILE_SIZE, 8, antiAliasRadius, 0.0, updateBaselines);
+    }
+
+    private static BufferedImage image(int boxX, Color boxColor) {
+        return image(boxX, boxColor, Color.WHITE);
+    }
+
+    /**
+     * Draws a box on a white background with a one-pixel column of {@code edgeColor} left of
+     * the box, like an anti-aliased edge.
+     */
+    private static BufferedImage image(int boxX, Color boxColor, Color edgeColor) {
+        BufferedImage image = new BufferedImage(200, 100, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = image.createGraphics();
+        graphics.setColor(Color.WHITE);
+        graphics.fillRect(0, 0, 200, 100);
+        graphics.setColor(boxColor);
+        graphics.fillRect(boxX, 20, 50, 30);
+        graphics.setColor(edgeColor);
+        graphics.fillRect(boxX - 1, 20, 1, 30);
+        graphics.dispose();
+        return image;
+    }
+
+    private static BufferedImage text(String text) {
+        BufferedImage image = new BufferedImage(200, 100, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = image.createGraphics();
+        graphics.setColor(Color.WHITE);
+        graphics.fillRect(0, 0, 200, 100);
+        graphics.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+        graphics.setColor(Color.BLACK);
+        graphics.setFont(new Font(Font.SANS_SERIF, Font.PLAIN, 24));
+        graphics.drawString(text, 40, 60);
+        graphics.dispose();
+        return image;
+    }
+}